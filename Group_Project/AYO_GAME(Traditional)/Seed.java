@@ -1,7 +0,0 @@
-public class Seed {
-	
-    @Override
-    public String toString() {
-        return "Seed";
-    }
-}
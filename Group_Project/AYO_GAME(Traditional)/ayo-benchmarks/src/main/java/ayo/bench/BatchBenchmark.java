@@ -0,0 +1,62 @@
+package ayo.bench;
+
+import ayo.BoardBatch;
+import ayo.GameState;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// One move in every lane of a batch built from the corpus; reported per lane so it compares with MoveBenchmark.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class BatchBenchmark {
+    private static final int LANES = 4096;
+
+    @Param({"true", "false"})
+    public boolean vector;
+
+    private BoardBatch batch;
+    private GameState[] states;
+    private final byte[] moves = new byte[LANES];
+
+    @Setup
+    public void setUp() {
+        System.setProperty("ayo.vector", Boolean.toString(vector));
+        batch = new BoardBatch(LANES);
+        if (batch.isVectorized() != vector) {
+            throw new IllegalStateException("Vector kernel requested: " + vector + ", got: " + batch.isVectorized());
+        }
+        states = PositionCorpus.states();
+    }
+
+    @Setup(Level.Invocation)
+    public void reload() {
+        for (int lane = 0; lane < LANES; lane++) {
+            batch.load(lane, states[lane % states.length]);
+            int legal = batch.legalMoves(lane);
+            moves[lane] = (byte) (legal == 0 ? -1 : PositionCorpus.firstLegal(legal));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LANES)
+    public BoardBatch playAllLanes() {
+        batch.play(moves, LANES);
+        return batch;
+    }
+}
@@ -0,0 +1,122 @@
+package ayo.bench;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+// Runs the benchmarks with the GC profiler and compares time and allocation per operation with a baseline.
+//
+//   java -jar benchmarks.jar [include-regex]
+//     -Dayo.bench.out=<file>        write the results as a baseline properties file
+//     -Dayo.bench.baseline=<file>   fail with exit status 1 if any figure regresses past the tolerance, or if a
+//                                   baseline figure was not measured and no include regex narrowed the run
+//     -Dayo.bench.tolerance=0.10    allowed relative slowdown or allocation growth
+public final class BenchmarkGate {
+    private static final String ALLOCATION = "gc.alloc.rate.norm";
+
+    private BenchmarkGate() {
+    }
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        boolean filtered = args.length > 0;
+        String include = filtered ? args[0] : "ayo.bench.*";
+        Collection<RunResult> results = new Runner(new OptionsBuilder()
+                .include(include)
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+
+        Map<String, Double> measured = new TreeMap<>();
+        for (RunResult run : results) {
+            String name = run.getParams().getBenchmark() + paramSuffix(run);
+            measured.put(name, run.getPrimaryResult().getScore());
+            Result<?> allocation = run.getSecondaryResults().get(ALLOCATION);
+            if (allocation != null) {
+                measured.put(name + "." + ALLOCATION, allocation.getScore());
+            }
+        }
+
+        String out = System.getProperty("ayo.bench.out");
+        if (out != null) {
+            write(Paths.get(out), measured);
+        }
+        String baseline = System.getProperty("ayo.bench.baseline");
+        if (baseline != null) {
+            double tolerance = Double.parseDouble(System.getProperty("ayo.bench.tolerance", "0.10"));
+            if (!compare(read(Paths.get(baseline)), measured, tolerance, filtered)) {
+                System.exit(1);
+            }
+        }
+    }
+
+    private static String paramSuffix(RunResult run) {
+        StringBuilder suffix = new StringBuilder();
+        for (String key : run.getParams().getParamsKeys()) {
+            suffix.append('[').append(key).append('=').append(run.getParams().getParam(key)).append(']');
+        }
+        return suffix.toString();
+    }
+
+    // Every benchmark here reports time or bytes per operation, so a larger number is always worse. A baseline
+    // figure missing from the run means a benchmark was renamed or removed; that only passes when an explicit
+    // include regex left it out on purpose.
+    private static boolean compare(Map<String, Double> baseline, Map<String, Double> measured, double tolerance,
+            boolean filtered) {
+        boolean passed = true;
+        for (Map.Entry<String, Double> entry : baseline.entrySet()) {
+            Double current = measured.get(entry.getKey());
+            if (current == null) {
+                System.out.printf("MISSING %s: in the baseline but not measured%s%n",
+                        entry.getKey(), filtered ? " (excluded by the include regex)" : "");
+                passed &= filtered;
+                continue;
+            }
+            double limit = entry.getValue() * (1 + tolerance);
+            // Allocation that was zero stays zero up to a few bytes of JMH noise.
+            if (entry.getKey().endsWith(ALLOCATION)) {
+                limit = Math.max(limit, entry.getValue() + 1.0);
+            }
+            if (current > limit) {
+                System.out.printf("REGRESSION %s: %.3f -> %.3f (limit %.3f)%n",
+                        entry.getKey(), entry.getValue(), current, limit);
+                passed = false;
+            }
+        }
+        System.out.println(passed ? "Benchmark gate passed" : "Benchmark gate failed");
+        return passed;
+    }
+
+    private static Map<String, Double> read(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            properties.load(reader);
+        }
+        Map<String, Double> values = new TreeMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            values.put(key, Double.parseDouble(properties.getProperty(key)));
+        }
+        return values;
+    }
+
+    private static void write(Path file, Map<String, Double> values) throws IOException {
+        Properties properties = new Properties();
+        for (Map.Entry<String, Double> entry : values.entrySet()) {
+            properties.setProperty(entry.getKey(), Double.toString(entry.getValue()));
+        }
+        try (Writer writer = Files.newBufferedWriter(file)) {
+            properties.store(writer, "Ayo benchmark baseline");
+        }
+    }
+}
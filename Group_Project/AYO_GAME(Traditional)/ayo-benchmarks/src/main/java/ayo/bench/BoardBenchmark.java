@@ -0,0 +1,46 @@
+package ayo.bench;
+
+import ayo.Board;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardBenchmark {
+    private Board board;
+    private int pit;
+
+    @Setup
+    public void setUp() {
+        board = new Board();
+    }
+
+    @Benchmark
+    public Board deepCopy() {
+        return board.deepCopy();
+    }
+
+    // Lifts one pit and puts the seeds back, so the board is unchanged between invocations.
+    @Benchmark
+    public int takeAllSeeds() {
+        pit = (pit + 1) % Board.PIT_COUNT;
+        int seeds = board.takeAllSeeds(pit);
+        for (int i = 0; i < seeds; i++) {
+            board.addSeed(pit);
+        }
+        return seeds;
+    }
+}
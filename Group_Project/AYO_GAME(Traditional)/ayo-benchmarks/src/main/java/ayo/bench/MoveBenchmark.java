@@ -0,0 +1,89 @@
+package ayo.bench;
+
+import ayo.AyoEngine;
+import ayo.GameState;
+import ayo.MoveUndo;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoveBenchmark {
+    private AyoEngine[] positions;
+    private int[] moves;
+    private AyoEngine[] capturePositions;
+    private int[] captureMoves;
+    private final AyoEngine engine = new AyoEngine();
+    private int next;
+    private int nextCapture;
+
+    private GameState[] states;
+    private final MoveUndo undo = new MoveUndo();
+    private int nextState;
+
+    @Setup
+    public void setUp() {
+        positions = PositionCorpus.engines();
+        moves = new int[positions.length];
+        List<AyoEngine> captures = new ArrayList<>();
+        List<Integer> captureMoveList = new ArrayList<>();
+        for (int i = 0; i < positions.length; i++) {
+            moves[i] = PositionCorpus.firstLegal(positions[i].legalMoves());
+            for (int move = 0; move < AyoEngine.PITS_PER_SIDE; move++) {
+                if (!positions[i].isLegal(move)) continue;
+                engine.copyFrom(positions[i]);
+                if (engine.applyMove(move) > 0) {
+                    captures.add(positions[i]);
+                    captureMoveList.add(move);
+                }
+            }
+        }
+        if (captures.isEmpty()) {
+            throw new IllegalStateException("Position corpus has no capturing moves");
+        }
+        capturePositions = captures.toArray(new AyoEngine[0]);
+        captureMoves = captureMoveList.stream().mapToInt(Integer::intValue).toArray();
+        states = PositionCorpus.states();
+    }
+
+    @Benchmark
+    public int executeMove() {
+        next = (next + 1) % positions.length;
+        engine.copyFrom(positions[next]);
+        return engine.applyMove(moves[next]);
+    }
+
+    // Every move here ends in the opponent's row and captures, so the capture walk is always taken.
+    @Benchmark
+    public int captureSeeds() {
+        nextCapture = (nextCapture + 1) % capturePositions.length;
+        engine.copyFrom(capturePositions[nextCapture]);
+        return engine.applyMove(captureMoves[nextCapture]);
+    }
+
+    // The AI's simulated move: make and unmake on the primitive search state.
+    @Benchmark
+    public int simulateExecuteMove() {
+        nextState = (nextState + 1) % states.length;
+        GameState state = states[nextState];
+        state.makeMove(PositionCorpus.firstLegal(state), undo);
+        int delta = undo.getScoreDelta();
+        state.unmakeMove(undo);
+        return delta;
+    }
+}
@@ -0,0 +1,73 @@
+package ayo.bench;
+
+import ayo.AyoEngine;
+import ayo.GameState;
+import ayo.MoveUndo;
+
+// Fixed positions reached by replaying move lines from the opening, so every run measures the same boards.
+// A line that no longer replays under the current rules is an error, not something to patch up, so a stale
+// corpus is caught instead of quietly changing what the baseline measures.
+final class PositionCorpus {
+    static final int[][] LINES = {
+        {},
+        {3, 0, 1, 1},
+        {2, 5, 4, 1, 0, 3},
+        {5, 5, 2, 2, 3, 0, 4, 1},
+        {0, 1, 2, 3, 4, 5, 0, 1, 2, 3},
+        {4, 4, 1, 2, 0, 0, 2, 2, 5, 3, 3, 2},
+        {1, 3, 5, 0, 2, 4, 1, 3, 0, 1, 2, 4, 1, 3},
+        {3, 0, 1, 1, 5, 3, 3, 2, 0, 3, 2, 3, 1, 1, 3, 2},
+    };
+
+    private PositionCorpus() {
+    }
+
+    static AyoEngine[] engines() {
+        AyoEngine[] engines = new AyoEngine[LINES.length];
+        for (int i = 0; i < LINES.length; i++) {
+            AyoEngine engine = new AyoEngine();
+            engine.reset();
+            for (int ply = 0; ply < LINES[i].length; ply++) {
+                int move = LINES[i][ply];
+                if (engine.isGameOver() || !engine.isLegal(move)) {
+                    throw illegalMove(i, ply, move);
+                }
+                engine.applyMove(move);
+            }
+            engines[i] = engine;
+        }
+        return engines;
+    }
+
+    static GameState[] states() {
+        GameState[] states = new GameState[LINES.length];
+        MoveUndo undo = new MoveUndo();
+        for (int i = 0; i < LINES.length; i++) {
+            GameState state = new GameState();
+            for (int ply = 0; ply < LINES[i].length; ply++) {
+                int move = LINES[i][ply];
+                if (state.isTerminal() || !state.isLegal(move)) {
+                    throw illegalMove(i, ply, move);
+                }
+                state.makeMove(move, undo);
+            }
+            states[i] = state;
+        }
+        return states;
+    }
+
+    private static IllegalStateException illegalMove(int line, int ply, int move) {
+        return new IllegalStateException("Corpus line " + line + " plays illegal move " + move + " at ply " + ply);
+    }
+
+    static int firstLegal(int legalMask) {
+        return Integer.numberOfTrailingZeros(legalMask);
+    }
+
+    static int firstLegal(GameState state) {
+        for (int move = 0; move < GameState.PITS_PER_SIDE; move++) {
+            if (state.isLegal(move)) return move;
+        }
+        return -1;
+    }
+}
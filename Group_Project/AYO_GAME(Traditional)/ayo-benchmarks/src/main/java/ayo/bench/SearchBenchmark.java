@@ -0,0 +1,54 @@
+package ayo.bench;
+
+import ayo.GameState;
+import ayo.SearchEngine;
+import ayo.SearchResult;
+import ayo.TranspositionTable;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchBenchmark {
+    @Param({"8"})
+    public int depth;
+
+    private GameState[] states;
+    private TranspositionTable table;
+    private SearchEngine engine;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        states = PositionCorpus.states();
+        table = new TranspositionTable(1);
+        engine = new SearchEngine(table);
+    }
+
+    // Each search starts from an empty table so one position's entries cannot speed up the next measurement.
+    @Setup(Level.Invocation)
+    public void clearTable() {
+        table.clear();
+    }
+
+    @Benchmark
+    public SearchResult findBestMove() {
+        next = (next + 1) % states.length;
+        return engine.search(states[next], depth);
+    }
+}
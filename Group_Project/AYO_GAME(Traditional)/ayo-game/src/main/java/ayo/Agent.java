@@ -0,0 +1,5 @@
+package ayo;
+
+public interface Agent {
+    int chooseMove(AyoEngine engine);
+}
@@ -0,0 +1,11 @@
+package ayo;
+
+public interface AiSearch {
+    SearchResult search(GameState root, SearchLimits limits);
+
+    void setTablebase(EndgameTablebase tablebase);
+
+    void setEvaluation(Evaluation evaluation);
+
+    void shutdown();
+}
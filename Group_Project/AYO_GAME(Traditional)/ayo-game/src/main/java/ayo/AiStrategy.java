@@ -0,0 +1,18 @@
+package ayo;
+
+public enum AiStrategy {
+    MINIMAX {
+        @Override
+        public AiSearch create(int threads) {
+            return new ParallelSearch(threads);
+        }
+    },
+    MCTS {
+        @Override
+        public AiSearch create(int threads) {
+            return new MctsSearch(threads);
+        }
+    };
+
+    public abstract AiSearch create(int threads);
+}
@@ -0,0 +1,99 @@
+package ayo;
+
+public class AyoEngine {
+    public static final int PITS_PER_SIDE = Rules.PITS_PER_SIDE;
+
+    private final Board board = new Board();
+    private final int[] scores = new int[2];
+    private final int maxPlies;
+    private int sideToMove;
+    private int ply;
+
+    public AyoEngine() {
+        this(0);
+    }
+
+    // A positive maxPlies ends the game after that many moves; zero plays until a side runs out of seeds.
+    public AyoEngine(int maxPlies) {
+        if (maxPlies < 0) {
+            throw new IllegalArgumentException("Ply limit must not be negative: " + maxPlies);
+        }
+        this.maxPlies = maxPlies;
+    }
+
+    public void reset() {
+        board.reset();
+        scores[0] = 0;
+        scores[1] = 0;
+        sideToMove = 0;
+        ply = 0;
+    }
+
+    public void copyFrom(AyoEngine other) {
+        board.copyFrom(other.board);
+        scores[0] = other.scores[0];
+        scores[1] = other.scores[1];
+        sideToMove = other.sideToMove;
+        ply = other.ply;
+    }
+
+    public int getSeedCount(int pit) {
+        return board.getSeedCount(pit);
+    }
+
+    public int getScore(int side) {
+        return scores[side];
+    }
+
+    public int getSideToMove() {
+        return sideToMove;
+    }
+
+    public int getPly() {
+        return ply;
+    }
+
+    public boolean isLegal(int move) {
+        return Rules.isLegal(board.pits(), sideToMove, move);
+    }
+
+    // Bit i is set when pit i (0-5, relative to the side to move) can be played.
+    public int legalMoves() {
+        return Rules.legalMoves(board.pits(), sideToMove);
+    }
+
+    public int applyMove(int move) {
+        if (!isLegal(move)) {
+            throw new IllegalArgumentException("Illegal move " + move + " for side " + sideToMove);
+        }
+        EngineEvents.MoveAppliedEvent event = new EngineEvents.MoveAppliedEvent();
+        event.begin();
+        int captured = Rules.play(board.pits(), sideToMove, move, null);
+        if (event.shouldCommit()) {
+            event.ply = ply;
+            event.side = sideToMove;
+            event.move = move;
+            event.captured = captured;
+            event.commit();
+        }
+        scores[sideToMove] += captured;
+        sideToMove = 1 - sideToMove;
+        ply++;
+        return captured;
+    }
+
+    public boolean isGameOver() {
+        return (maxPlies > 0 && ply >= maxPlies) || Rules.isRowEmpty(board.pits(), sideToMove);
+    }
+
+    public GameResult getResult() {
+        if (!isGameOver()) {
+            throw new IllegalStateException("Game is still in progress");
+        }
+        return GameResult.fromScores(scores[0], scores[1]);
+    }
+
+    public void copyTo(GameState state) {
+        state.load(board, scores[0], scores[1], sideToMove);
+    }
+}
@@ -0,0 +1,119 @@
+package ayo;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Scanner;
+import javax.management.JMException;
+
+public class AyoGame {
+    public static final long DEFAULT_AI_MILLIS = 1000;
+
+    private Player playerA;
+    private Player playerB;
+    private Scanner scanner;
+    private AiSearch search;
+    private SearchLimits aiLimits;
+    private OpeningBook openingBook;
+    private SearchMetrics metrics = new SearchMetrics("Player B");
+    private Path recordFile;
+
+    public AyoGame(boolean singlePlayer) {
+        this(new Scanner(System.in), singlePlayer ? AiStrategy.MINIMAX : null, SearchLimits.time(DEFAULT_AI_MILLIS),
+                Runtime.getRuntime().availableProcessors());
+    }
+
+    public AyoGame(Scanner scanner, AiStrategy aiStrategy, SearchLimits aiLimits, int aiThreads) {
+        this.scanner = scanner;
+        this.aiLimits = aiLimits;
+        playerA = new Player("Player A", false, 0, 5);
+        playerB = new Player("Player B", aiStrategy, 6, 11);
+        if (playerB.isAI()) {
+            search = aiStrategy.create(aiThreads);
+            try {
+                metrics.register();
+            } catch (JMException e) {
+                System.out.println("Search metrics are not available over JMX: " + e.getMessage());
+            }
+        }
+    }
+
+    public void startGame() throws IOException {
+        AyoEngine engine = new AyoEngine();
+        Agent agentA = new ConsoleAgent(scanner);
+        Agent agentB = new ConsoleAgent(scanner);
+        if (playerB.isAI()) {
+            SearchAgent searchAgent = new SearchAgent(search, aiLimits);
+            searchAgent.setOpeningBook(openingBook);
+            searchAgent.setMetrics(metrics);
+            agentB = searchAgent;
+        }
+
+        GameRecord record = new GameRecord();
+        record.reset(GameRecord.HUMAN, GameRecord.playerType(playerB.getStrategy()), 0L);
+        new Match(engine, agentA, agentB)
+                .setRenderer(new ConsoleRenderer(playerA, playerB))
+                .setRecord(record)
+                .play();
+        if (recordFile != null) {
+            try (GameRecordWriter writer = new GameRecordWriter(recordFile)) {
+                writer.append(record);
+            }
+        }
+
+        if (search != null) {
+            search.shutdown();
+        }
+    }
+
+    public void useTablebase(EndgameTablebase tablebase) {
+        if (search != null) {
+            search.setTablebase(tablebase);
+        }
+    }
+
+    public void useEvaluation(Evaluation evaluation) {
+        if (search != null) {
+            search.setEvaluation(evaluation);
+        }
+    }
+
+    public void useOpeningBook(OpeningBook openingBook) {
+        this.openingBook = openingBook;
+    }
+
+    // Appends the finished game to a game record file.
+    public void recordTo(Path recordFile) {
+        this.recordFile = recordFile;
+    }
+
+    public static void main(String[] args) throws IOException {
+        Scanner scanner = new Scanner(System.in);
+        System.out.print("Single-player mode? (yes/no): ");
+        boolean singlePlayer = scanner.next().equalsIgnoreCase("yes");
+
+        long aiMillis = Long.getLong("ayo.ai.millis", DEFAULT_AI_MILLIS);
+        long aiNodes = Long.getLong("ayo.ai.nodes", 0L);
+        int aiThreads = Integer.getInteger("ayo.ai.threads", Runtime.getRuntime().availableProcessors());
+        AiStrategy aiStrategy = AiStrategy.valueOf(System.getProperty("ayo.ai.strategy", "MINIMAX").toUpperCase());
+        AyoGame game = new AyoGame(scanner, singlePlayer ? aiStrategy : null,
+                new SearchLimits(SearchEngine.MAX_PLY, aiMillis, aiNodes), aiThreads);
+        String tablebase = System.getProperty("ayo.tablebase");
+        if (tablebase != null) {
+            game.useTablebase(EndgameTablebase.load(Paths.get(tablebase)));
+        }
+        String evaluation = System.getProperty("ayo.eval");
+        if (evaluation != null) {
+            game.useEvaluation(Evaluation.load(Paths.get(evaluation)));
+        }
+        String openingBook = System.getProperty("ayo.book");
+        if (openingBook != null) {
+            game.useOpeningBook(OpeningBook.load(Paths.get(openingBook)));
+        }
+        String recordFile = System.getProperty("ayo.record");
+        if (recordFile != null) {
+            game.recordTo(Paths.get(recordFile));
+        }
+        game.startGame();
+    }
+}
@@ -0,0 +1,6 @@
+package ayo;
+
+// Applies one move per lane across a BoardBatch; a negative move leaves that lane untouched.
+interface BatchKernel {
+    void play(BoardBatch batch, byte[] moves, int from, int to);
+}
@@ -0,0 +1,65 @@
+package ayo;
+
+import java.util.Arrays;
+
+public class Board {
+    public static final int PIT_COUNT = 12;
+    public static final int INITIAL_SEEDS = 4;
+
+    private byte[] pits;
+
+    public Board() {
+        pits = new byte[PIT_COUNT];
+        initializeBoard();
+    }
+
+    private Board(byte[] pits) {
+        this.pits = pits;
+    }
+
+    private void initializeBoard() {
+        for (int i = 0; i < PIT_COUNT; i++) {
+            pits[i] = INITIAL_SEEDS;
+        }
+    }
+
+    public void reset() {
+        initializeBoard();
+    }
+
+    public int getSeedCount(int index) {
+        return pits[index];
+    }
+
+    public void addSeed(int index) {
+        pits[index]++;
+    }
+
+    public int takeAllSeeds(int index) {
+        int taken = pits[index];
+        pits[index] = 0;
+        return taken;
+    }
+
+    public void clearSeeds(int index) {
+        pits[index] = 0;
+    }
+
+    // The live array, for the rules kernel.
+    byte[] pits() {
+        return pits;
+    }
+
+    public void copyFrom(Board other) {
+        System.arraycopy(other.pits, 0, pits, 0, PIT_COUNT);
+    }
+
+    public Board deepCopy() {
+        return new Board(pits.clone());
+    }
+
+    @Override
+    public String toString() {
+        return "Board" + Arrays.toString(pits);
+    }
+}
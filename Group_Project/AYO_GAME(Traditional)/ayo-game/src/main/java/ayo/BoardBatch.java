@@ -0,0 +1,95 @@
+package ayo;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+// Many boards in struct-of-arrays form for rollouts and self-play: pits[pit][lane], scores[side][lane], side[lane].
+// Moves run through the Vector API when the JVM is started with --add-modules jdk.incubator.vector, otherwise lane by lane.
+public class BoardBatch {
+    private static final Logger LOG = Logger.getLogger("ayo.batch");
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    final byte[][] pits;
+    final byte[][] scores;
+    final byte[] side;
+    private final int capacity;
+    private final BatchKernel kernel;
+
+    public BoardBatch(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Batch capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        pits = new byte[Rules.PITS][capacity];
+        scores = new byte[2][capacity];
+        side = new byte[capacity];
+        kernel = newKernel();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public boolean isVectorized() {
+        return !(kernel instanceof ScalarBatchKernel);
+    }
+
+    public void load(int lane, GameState state) {
+        for (int pit = 0; pit < Rules.PITS; pit++) {
+            pits[pit][lane] = (byte) state.getSeedCount(pit);
+        }
+        scores[0][lane] = (byte) state.getScore(0);
+        scores[1][lane] = (byte) state.getScore(1);
+        side[lane] = (byte) state.getSideToMove();
+    }
+
+    public void store(int lane, GameState state) {
+        int[] counts = new int[Rules.PITS];
+        for (int pit = 0; pit < Rules.PITS; pit++) {
+            counts[pit] = pits[pit][lane];
+        }
+        state.load(counts, scores[0][lane], scores[1][lane], side[lane]);
+    }
+
+    public int getSeedCount(int lane, int pit) {
+        return pits[pit][lane];
+    }
+
+    public int getScore(int lane, int player) {
+        return scores[player][lane];
+    }
+
+    public int getSideToMove(int lane) {
+        return side[lane];
+    }
+
+    // Bit i is set when pit i (0-5, relative to the lane's side to move) can be played; zero means the lane is over.
+    public int legalMoves(int lane) {
+        int start = side[lane] * Rules.PITS_PER_SIDE;
+        int mask = 0;
+        for (int move = 0; move < Rules.PITS_PER_SIDE; move++) {
+            if (pits[start + move][lane] > 0) mask |= 1 << move;
+        }
+        return mask;
+    }
+
+    // Plays moves[lane] in lanes 0 to count - 1. Moves must be legal; a negative move skips the lane.
+    public void play(byte[] moves, int count) {
+        if (count < 0 || count > capacity || moves.length < count) {
+            throw new IllegalArgumentException("Bad lane count " + count + " for capacity " + capacity);
+        }
+        kernel.play(this, moves, 0, count);
+    }
+
+    private static BatchKernel newKernel() {
+        if (Boolean.parseBoolean(System.getProperty("ayo.vector", "true"))
+                && ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+            try {
+                return (BatchKernel) Class.forName("ayo.VectorBatchKernel").getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                LOG.log(Level.FINE, "Vector kernel unavailable, using scalar moves", e);
+            }
+        }
+        return new ScalarBatchKernel();
+    }
+}
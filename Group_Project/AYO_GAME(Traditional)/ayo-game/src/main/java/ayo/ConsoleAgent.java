@@ -0,0 +1,24 @@
+package ayo;
+
+import java.util.Scanner;
+
+public class ConsoleAgent implements Agent {
+    private final Scanner scanner;
+
+    public ConsoleAgent(Scanner scanner) {
+        this.scanner = scanner;
+    }
+
+    @Override
+    public int chooseMove(AyoEngine engine) {
+        int chosenPit;
+        do {
+            System.out.print("Choose a pit (1-6): ");
+            chosenPit = scanner.nextInt() - 1;
+            if (!engine.isLegal(chosenPit)) {
+                System.out.println("Invalid move! Choose a pit on your side that has seeds.");
+            }
+        } while (!engine.isLegal(chosenPit));
+        return chosenPit;
+    }
+}
@@ -0,0 +1,100 @@
+package ayo;
+
+import java.io.PrintStream;
+
+public class ConsoleRenderer implements Renderer {
+    private static final String RULE = "---------------------------------";
+
+    private final Player[] players;
+    private final PrintStream out;
+    private final StringBuilder buffer = new StringBuilder(512);
+
+    public ConsoleRenderer(Player playerA, Player playerB) {
+        this(playerA, playerB, System.out);
+    }
+
+    public ConsoleRenderer(Player playerA, Player playerB, PrintStream out) {
+        this.players = new Player[] {playerA, playerB};
+        this.out = out;
+    }
+
+    @Override
+    public void gameStarted(AyoEngine engine) {
+        buffer.append("Welcome to Ayo (Oware)!\n");
+        appendBoard(engine);
+        flush();
+    }
+
+    @Override
+    public void turnStarted(AyoEngine engine) {
+        Player current = players[engine.getSideToMove()];
+        buffer.append('\n').append(current.getName()).append("'s turn.\n");
+        if (current.isAI()) {
+            buffer.append("AI is thinking...\n");
+        }
+        flush();
+    }
+
+    @Override
+    public void moveApplied(AyoEngine engine, int side, int move, int captured) {
+        if (players[side].isAI()) {
+            buffer.append("AI chooses pit ").append(move + 1).append('\n');
+        }
+        appendBoard(engine);
+        flush();
+    }
+
+    @Override
+    public void gameFinished(AyoEngine engine, GameResult result) {
+        Player playerA = players[0];
+        Player playerB = players[1];
+        buffer.append("\nGame Over!\n");
+        buffer.append("Final Scores:\n");
+        buffer.append(playerA.getName()).append(": ").append(engine.getScore(0)).append('\n');
+        buffer.append(playerB.getName()).append(": ").append(engine.getScore(1)).append('\n');
+
+        if (result == GameResult.PLAYER_A_WINS) {
+            buffer.append("🎉 ").append(playerA.getName()).append(" Wins! 🎉\n");
+        } else if (result == GameResult.PLAYER_B_WINS) {
+            buffer.append("🎉 ").append(playerB.getName()).append(" Wins! 🎉\n");
+        } else {
+            buffer.append("It's a Draw!\n");
+        }
+        flush();
+    }
+
+    private void appendBoard(AyoEngine engine) {
+        Player playerA = players[0];
+        Player playerB = players[1];
+        buffer.append('\n').append(playerB.getName()).append(" Score: ").append(engine.getScore(1)).append('\n');
+        buffer.append(RULE).append('\n');
+
+        buffer.append("| ");
+        for (int i = playerB.getPitEnd(); i >= playerB.getPitStart(); i--) {
+            appendPit(engine.getSeedCount(i));
+        }
+        buffer.append(" (").append(playerB.getName()).append(")\n");
+
+        buffer.append(RULE).append('\n');
+
+        buffer.append("| ");
+        for (int i = playerA.getPitStart(); i <= playerA.getPitEnd(); i++) {
+            appendPit(engine.getSeedCount(i));
+        }
+        buffer.append(" (").append(playerA.getName()).append(")\n");
+
+        buffer.append(RULE).append('\n');
+        buffer.append(playerA.getName()).append(" Score: ").append(engine.getScore(0)).append('\n');
+    }
+
+    private void appendPit(int seeds) {
+        if (seeds < 10) buffer.append(' ');
+        buffer.append(seeds).append("  | ");
+    }
+
+    private void flush() {
+        out.print(buffer);
+        out.flush();
+        buffer.setLength(0);
+    }
+}
@@ -0,0 +1,186 @@
+package ayo;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Exact future capture balance for every position with at most maxSeeds seeds on the board. A position's
+// value is what the side to move will capture from here minus what the opponent will, under best play, so
+// the final score difference is the current difference plus the value.
+//
+// Entries are 4 bits when maxSeeds <= 7 and 8 bits otherwise. Layers of equal seed count are stored in
+// order, each holding every arrangement in canonical form: a side 1 position is looked up as its mirror with
+// side 0 to move, so only side 0 is stored.
+//
+// Loaded tables are memory-mapped read-only in 1 GB chunks rather than read onto the heap: opening one is
+// instant, pages are faulted in as probes touch them, and JVMs on the same machine share the page cache.
+public class EndgameTablebase {
+    public static final int UNKNOWN = Integer.MIN_VALUE;
+
+    static final int MAGIC = 0x41594F54;
+    static final int VERSION = 3;
+    static final int HEADER_BYTES = 16;
+
+    private static final int CHUNK_BITS = 30;
+    private static final long CHUNK_MASK = (1L << CHUNK_BITS) - 1;
+
+    private final int maxSeeds;
+    private final int bitsPerEntry;
+    private final long[] layerOffsets;
+    private final ByteBuffer[] chunks;
+    private final long dataStart;
+
+    EndgameTablebase(int maxSeeds, byte[] data) {
+        this(maxSeeds, heapChunks(data), 0);
+    }
+
+    private EndgameTablebase(int maxSeeds, ByteBuffer[] chunks, long dataStart) {
+        this.maxSeeds = maxSeeds;
+        this.bitsPerEntry = bitsPerEntry(maxSeeds);
+        this.layerOffsets = layerOffsets(maxSeeds);
+        this.chunks = chunks;
+        this.dataStart = dataStart;
+    }
+
+    // A freshly generated table uses the same 1 GB chunk layout as a mapped one, so byteAt and save work on both.
+    private static ByteBuffer[] heapChunks(byte[] data) {
+        ByteBuffer[] chunks = new ByteBuffer[Math.max(1, (int) ((data.length + CHUNK_MASK) >>> CHUNK_BITS))];
+        for (int i = 0; i < chunks.length; i++) {
+            int start = i << CHUNK_BITS;
+            chunks[i] = ByteBuffer.wrap(data, start, Math.min((int) CHUNK_MASK + 1, data.length - start)).slice();
+        }
+        return chunks;
+    }
+
+    static int bitsPerEntry(int maxSeeds) {
+        return maxSeeds <= 7 ? 4 : 8;
+    }
+
+    static long[] layerOffsets(int maxSeeds) {
+        long[] offsets = new long[maxSeeds + 2];
+        for (int seeds = 0; seeds <= maxSeeds; seeds++) {
+            offsets[seeds + 1] = offsets[seeds] + PitIndexer.layerSize(seeds);
+        }
+        return offsets;
+    }
+
+    static long entryCount(int maxSeeds) {
+        return layerOffsets(maxSeeds)[maxSeeds + 1];
+    }
+
+    static long dataBytes(int maxSeeds) {
+        return (entryCount(maxSeeds) * bitsPerEntry(maxSeeds) + 7) / 8;
+    }
+
+    static long index(long[] layerOffsets, int seeds, long rank) {
+        return layerOffsets[seeds] + rank;
+    }
+
+    static int encode(int value, int bitsPerEntry) {
+        return value == UNKNOWN ? (1 << bitsPerEntry) - 1 : value + (1 << (bitsPerEntry - 1)) - 1;
+    }
+
+    static int decode(int stored, int bitsPerEntry) {
+        return stored == (1 << bitsPerEntry) - 1 ? UNKNOWN : stored - (1 << (bitsPerEntry - 1)) + 1;
+    }
+
+    static void write(byte[] data, long index, int value, int bitsPerEntry) {
+        int stored = encode(value, bitsPerEntry);
+        if (bitsPerEntry == 8) {
+            data[(int) index] = (byte) stored;
+        } else {
+            int at = (int) (index >>> 1);
+            int shift = (int) (index & 1) << 2;
+            data[at] = (byte) ((data[at] & ~(0xF << shift)) | (stored << shift));
+        }
+    }
+
+    private int read(long index) {
+        if (bitsPerEntry == 8) {
+            return decode(byteAt(index) & 0xFF, 8);
+        }
+        int shift = (int) (index & 1) << 2;
+        return decode((byteAt(index >>> 1) >>> shift) & 0xF, 4);
+    }
+
+    private byte byteAt(long offset) {
+        long position = dataStart + offset;
+        return chunks[(int) (position >>> CHUNK_BITS)].get((int) (position & CHUNK_MASK));
+    }
+
+    public int getMaxSeeds() {
+        return maxSeeds;
+    }
+
+    // Returns the exact future capture balance for the side to move, or UNKNOWN if the position is not covered.
+    public int probe(GameState state) {
+        EngineEvents.TablebaseProbeEvent event = new EngineEvents.TablebaseProbeEvent();
+        event.begin();
+        int seeds = PitIndexer.seedsOnBoard(state);
+        int value = seeds > maxSeeds
+                ? UNKNOWN
+                : read(index(layerOffsets, seeds, PitIndexer.rank(state, seeds)));
+        if (event.shouldCommit()) {
+            event.seeds = seeds;
+            event.hit = value != UNKNOWN;
+            event.value = value;
+            event.commit();
+        }
+        return value;
+    }
+
+    public void save(Path file) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        header.putInt(MAGIC).putInt(VERSION).putInt(maxSeeds).putInt(bitsPerEntry).flip();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writeFully(channel, header);
+            long remaining = dataBytes(maxSeeds);
+            for (long offset = 0; remaining > 0; ) {
+                int length = (int) Math.min(remaining, CHUNK_MASK + 1 - ((dataStart + offset) & CHUNK_MASK));
+                ByteBuffer slice = chunks[(int) ((dataStart + offset) >>> CHUNK_BITS)].duplicate();
+                slice.position((int) ((dataStart + offset) & CHUNK_MASK)).limit(slice.position() + length);
+                writeFully(channel, slice);
+                offset += length;
+                remaining -= length;
+            }
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    public static EndgameTablebase load(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            while (header.hasRemaining()) {
+                if (channel.read(header) < 0) break;
+            }
+            header.flip();
+            if (header.remaining() < HEADER_BYTES || header.getInt() != MAGIC || header.getInt() != VERSION) {
+                throw new IOException("Not an Ayo tablebase: " + file);
+            }
+            int maxSeeds = header.getInt();
+            if (maxSeeds < 0 || maxSeeds > PitIndexer.MAX_SEEDS || header.getInt() != bitsPerEntry(maxSeeds)) {
+                throw new IOException("Unexpected tablebase layout in " + file);
+            }
+            long size = HEADER_BYTES + dataBytes(maxSeeds);
+            if (channel.size() < size) {
+                throw new IOException("Truncated tablebase " + file + ": " + channel.size() + " of " + size + " bytes");
+            }
+
+            // The mappings stay valid after the channel is closed.
+            ByteBuffer[] chunks = new ByteBuffer[(int) ((size + CHUNK_MASK) >>> CHUNK_BITS)];
+            for (int i = 0; i < chunks.length; i++) {
+                long start = (long) i << CHUNK_BITS;
+                chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(CHUNK_MASK + 1, size - start));
+            }
+            return new EndgameTablebase(maxSeeds, chunks, HEADER_BYTES);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package ayo;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// Flight Recorder events for the engine's hot paths. All are disabled by default; enable them in a JFR
+// settings file (for example "ayo.Search#enabled=true") when recording. While disabled, shouldCommit()
+// is false and the JIT removes the event objects, so the instrumented paths pay next to nothing.
+public final class EngineEvents {
+    private EngineEvents() {
+    }
+
+    static void commitSearch(SearchEvent event, String engine, int threads, SearchResult result) {
+        if (event.shouldCommit()) {
+            event.engine = engine;
+            event.threads = threads;
+            if (result != null) {
+                event.depth = result.getDepth();
+                event.nodes = result.getStats().getNodes();
+                event.bestMove = result.getBestMove();
+                event.score = result.getScore();
+            }
+            event.commit();
+        }
+    }
+
+    @Name("ayo.Search")
+    @Label("Search")
+    @Category({"Ayo", "Search"})
+    @Description("One AI move search from start to finish")
+    @Enabled(false)
+    @StackTrace(false)
+    public static class SearchEvent extends Event {
+        @Label("Engine")
+        String engine;
+
+        @Label("Threads")
+        int threads;
+
+        @Label("Depth")
+        int depth;
+
+        @Label("Nodes")
+        long nodes;
+
+        @Label("Best Move")
+        int bestMove;
+
+        @Label("Score")
+        int score;
+    }
+
+    @Name("ayo.SearchIteration")
+    @Label("Search Iteration")
+    @Category({"Ayo", "Search"})
+    @Description("One completed iterative-deepening iteration")
+    @Enabled(false)
+    @StackTrace(false)
+    public static class SearchIterationEvent extends Event {
+        @Label("Worker")
+        int worker;
+
+        @Label("Depth")
+        int depth;
+
+        @Label("Nodes")
+        long nodes;
+
+        @Label("Score")
+        int score;
+    }
+
+    @Name("ayo.TranspositionTableResize")
+    @Label("Transposition Table Resize")
+    @Category({"Ayo", "Search"})
+    @Description("Allocation or clearing of a transposition table")
+    @Enabled(false)
+    @StackTrace(false)
+    public static class TableResizeEvent extends Event {
+        @Label("Size (MB)")
+        int sizeMb;
+
+        @Label("Slots")
+        int slots;
+    }
+
+    @Name("ayo.TablebaseProbe")
+    @Label("Tablebase Probe")
+    @Category({"Ayo", "Tablebase"})
+    @Enabled(false)
+    @StackTrace(false)
+    public static class TablebaseProbeEvent extends Event {
+        @Label("Seeds")
+        int seeds;
+
+        @Label("Hit")
+        boolean hit;
+
+        @Label("Value")
+        int value;
+    }
+
+    @Name("ayo.MoveApplied")
+    @Label("Move Applied")
+    @Category({"Ayo", "Game"})
+    @Description("A move played on the live game engine")
+    @Enabled(false)
+    @StackTrace(false)
+    public static class MoveAppliedEvent extends Event {
+        @Label("Ply")
+        int ply;
+
+        @Label("Side")
+        int side;
+
+        @Label("Move")
+        int move;
+
+        @Label("Captured")
+        int captured;
+    }
+}
@@ -0,0 +1,145 @@
+package ayo;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+// Static evaluation for the side to move, in tenths of a seed: a weighted sum of features, each the side to
+// move's value minus the opponent's. Weights are in seeds per unit of the feature. The default weights are
+// material only, which is what the search has always scored its horizon nodes with.
+public class Evaluation {
+    public static final int MATERIAL = 0;
+    public static final int MOBILITY = 1;
+    public static final int CAPTURE_REACH = 2;
+    public static final int KROO = 3;
+    public static final int FEATURES = 4;
+
+    public static final int UNITS_PER_SEED = 10;
+    public static final int MAX_SCORE = SearchEngine.WIN_SCORE - SearchEngine.MAX_PLY - 1;
+    public static final Evaluation DEFAULT = new Evaluation(new double[] {1, 0, 0, 0});
+
+    // A pit with this many seeds sows a full lap and lands past its own start.
+    static final int KROO_SEEDS = Rules.PITS;
+
+    private static final String[] NAMES = {"material", "mobility", "captureReach", "kroo"};
+
+    private final double[] weights;
+
+    public Evaluation(double[] weights) {
+        if (weights.length != FEATURES) {
+            throw new IllegalArgumentException("Expected " + FEATURES + " weights, got " + weights.length);
+        }
+        this.weights = weights.clone();
+    }
+
+    public double getWeight(int feature) {
+        return weights[feature];
+    }
+
+    public double[] getWeights() {
+        return weights.clone();
+    }
+
+    public static String featureName(int feature) {
+        return NAMES[feature];
+    }
+
+    // Features with a zero weight are skipped, so the default costs no more than the old material count.
+    public int evaluate(GameState state) {
+        byte[] pits = state.pits();
+        int side = state.getSideToMove();
+        double sum = weights[MATERIAL] * material(state, side);
+        if (weights[MOBILITY] != 0) sum += weights[MOBILITY] * mobility(pits, side);
+        if (weights[CAPTURE_REACH] != 0) sum += weights[CAPTURE_REACH] * captureReach(pits, side);
+        if (weights[KROO] != 0) sum += weights[KROO] * kroo(pits, side);
+        long score = Math.round(sum * UNITS_PER_SEED);
+        return (int) Math.max(-MAX_SCORE, Math.min(MAX_SCORE, score));
+    }
+
+    // Unweighted, in seeds, for the tuner; out must hold FEATURES values.
+    public static void features(GameState state, double[] out) {
+        byte[] pits = state.pits();
+        int side = state.getSideToMove();
+        out[MATERIAL] = material(state, side);
+        out[MOBILITY] = mobility(pits, side);
+        out[CAPTURE_REACH] = captureReach(pits, side);
+        out[KROO] = kroo(pits, side);
+    }
+
+    private static int material(GameState state, int side) {
+        return state.getScore(side) - state.getScore(1 - side);
+    }
+
+    private static int mobility(byte[] pits, int side) {
+        return Integer.bitCount(Rules.legalMoves(pits, side)) - Integer.bitCount(Rules.legalMoves(pits, 1 - side));
+    }
+
+    // The largest capture each side could make if it were to move now.
+    private static int captureReach(byte[] pits, int side) {
+        return bestCapture(pits, side) - bestCapture(pits, 1 - side);
+    }
+
+    private static int bestCapture(byte[] pits, int side) {
+        int best = 0;
+        for (int move = 0; move < Rules.PITS_PER_SIDE; move++) {
+            best = Math.max(best, Rules.captureFor(pits, side, move));
+        }
+        return best;
+    }
+
+    // Seeds held in pits big enough to lap the board.
+    private static int kroo(byte[] pits, int side) {
+        int own = 0;
+        int other = 0;
+        for (int i = 0; i < Rules.PITS_PER_SIDE; i++) {
+            int mine = pits[side * Rules.PITS_PER_SIDE + i];
+            int theirs = pits[(1 - side) * Rules.PITS_PER_SIDE + i];
+            if (mine >= KROO_SEEDS) own += mine;
+            if (theirs >= KROO_SEEDS) other += theirs;
+        }
+        return own - other;
+    }
+
+    // Weights are stored as a properties file, one feature name per key.
+    public void save(Path file) throws IOException {
+        Properties properties = new Properties();
+        for (int i = 0; i < FEATURES; i++) {
+            properties.setProperty(NAMES[i], Double.toString(weights[i]));
+        }
+        try (Writer out = Files.newBufferedWriter(file)) {
+            properties.store(out, "Ayo evaluation weights, seeds per feature unit");
+        }
+    }
+
+    public static Evaluation load(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (Reader in = Files.newBufferedReader(file)) {
+            properties.load(in);
+        }
+        double[] weights = DEFAULT.getWeights();
+        for (int i = 0; i < FEATURES; i++) {
+            String value = properties.getProperty(NAMES[i]);
+            if (value != null) {
+                try {
+                    weights[i] = Double.parseDouble(value);
+                } catch (NumberFormatException e) {
+                    throw new IOException("Bad weight for " + NAMES[i] + " in " + file + ": " + value, e);
+                }
+            }
+        }
+        return new Evaluation(weights);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder("Evaluation{");
+        for (int i = 0; i < FEATURES; i++) {
+            if (i > 0) text.append(", ");
+            text.append(NAMES[i]).append('=').append(String.format("%.4f", weights[i]));
+        }
+        return text.append('}').toString();
+    }
+}
@@ -0,0 +1,191 @@
+package ayo;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.Inflater;
+
+// Texel-style tuning: fits evaluation weights so that sigmoid(scale * eval) predicts the recorded outcome of
+// each training position, minimising the mean squared error. The scale is fitted once for the starting weights,
+// then each epoch is one full-batch gradient pass followed by an Adam step.
+//
+// Workers claim chunks of the memory-mapped training file in file order and inflate them into their own
+// buffers, so the file is read front to back in large blocks; per-worker sums are added up at the end of
+// each pass. Progress is logged per epoch at INFO on the ayo.tune logger.
+public class EvaluationTuner {
+    private static final Logger LOG = Logger.getLogger("ayo.tune");
+    private static final double BETA1 = 0.9;
+    private static final double BETA2 = 0.999;
+    private static final double EPSILON = 1e-8;
+
+    private final TrainingDataReader reader;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private double learningRate = 0.01;
+
+    public EvaluationTuner(TrainingDataReader reader) {
+        this.reader = reader;
+    }
+
+    public EvaluationTuner setThreads(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Tuner needs at least one thread: " + threads);
+        }
+        this.threads = threads;
+        return this;
+    }
+
+    public EvaluationTuner setLearningRate(double learningRate) {
+        this.learningRate = learningRate;
+        return this;
+    }
+
+    // Golden-section search for the scale (per seed of evaluation) that best fits the data with these weights.
+    public double fitScale(Evaluation evaluation) {
+        double[] weights = evaluation.getWeights();
+        double low = 1e-3;
+        double high = 2.0;
+        double ratio = (Math.sqrt(5) - 1) / 2;
+        double a = high - ratio * (high - low);
+        double b = low + ratio * (high - low);
+        double lossA = pass(weights, a, null);
+        double lossB = pass(weights, b, null);
+        for (int i = 0; i < 24; i++) {
+            if (lossA < lossB) {
+                high = b;
+                b = a;
+                lossB = lossA;
+                a = high - ratio * (high - low);
+                lossA = pass(weights, a, null);
+            } else {
+                low = a;
+                a = b;
+                lossA = lossB;
+                b = low + ratio * (high - low);
+                lossB = pass(weights, b, null);
+            }
+        }
+        return (low + high) / 2;
+    }
+
+    public double loss(Evaluation evaluation, double scale) {
+        return pass(evaluation.getWeights(), scale, null);
+    }
+
+    // Runs the given number of epochs from start and returns the fitted weights.
+    public Evaluation tune(Evaluation start, double scale, int epochs) {
+        double[] weights = start.getWeights();
+        double[] gradient = new double[Evaluation.FEATURES];
+        double[] m = new double[Evaluation.FEATURES];
+        double[] v = new double[Evaluation.FEATURES];
+        for (int epoch = 1; epoch <= epochs; epoch++) {
+            long begin = System.nanoTime();
+            double loss = pass(weights, scale, gradient);
+            for (int i = 0; i < Evaluation.FEATURES; i++) {
+                m[i] = BETA1 * m[i] + (1 - BETA1) * gradient[i];
+                v[i] = BETA2 * v[i] + (1 - BETA2) * gradient[i] * gradient[i];
+                double mHat = m[i] / (1 - Math.pow(BETA1, epoch));
+                double vHat = v[i] / (1 - Math.pow(BETA2, epoch));
+                weights[i] -= learningRate * mHat / (Math.sqrt(vHat) + EPSILON);
+            }
+            if (LOG.isLoggable(Level.INFO)) {
+                LOG.info(String.format("epoch %d loss=%.6f %s (%.1f s)", epoch, loss, new Evaluation(weights),
+                        (System.nanoTime() - begin) / 1e9));
+            }
+        }
+        return new Evaluation(weights);
+    }
+
+    // Mean squared error over the whole file; when gradient is non-null it receives d(loss)/d(weight).
+    private double pass(double[] weights, double scale, double[] gradient) {
+        AtomicInteger nextChunk = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<double[]>> futures = new ArrayList<>(threads);
+            for (int i = 0; i < threads; i++) {
+                futures.add(pool.submit(() -> work(nextChunk, weights, scale)));
+            }
+            // Slot 0 holds the summed squared error, the rest the summed gradient.
+            double[] totals = new double[Evaluation.FEATURES + 1];
+            for (Future<double[]> future : futures) {
+                double[] sums = future.get();
+                for (int i = 0; i < totals.length; i++) {
+                    totals[i] += sums[i];
+                }
+            }
+            long rows = Math.max(1, reader.getRowCount());
+            if (gradient != null) {
+                for (int i = 0; i < Evaluation.FEATURES; i++) {
+                    gradient[i] = totals[i + 1] / rows;
+                }
+            }
+            return totals[0] / rows;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Tuning interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Tuning worker failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private double[] work(AtomicInteger nextChunk, double[] weights, double scale) throws IOException {
+        PositionChunk chunk = reader.newChunk();
+        Inflater inflater = new Inflater();
+        GameState state = new GameState();
+        int[] pits = new int[GameState.PITS];
+        double[] features = new double[Evaluation.FEATURES];
+        double[] sums = new double[Evaluation.FEATURES + 1];
+        try {
+            for (int c = nextChunk.getAndIncrement(); c < reader.getChunkCount(); c = nextChunk.getAndIncrement()) {
+                reader.read(c, chunk, inflater);
+                for (int row = 0; row < chunk.size(); row++) {
+                    chunk.load(row, state, pits);
+                    Evaluation.features(state, features);
+                    double eval = 0;
+                    for (int i = 0; i < Evaluation.FEATURES; i++) {
+                        eval += weights[i] * features[i];
+                    }
+                    double predicted = 1 / (1 + Math.exp(-scale * eval));
+                    double error = predicted - (chunk.getOutcome(row) + 1) / 2.0;
+                    sums[0] += error * error;
+                    double slope = 2 * error * predicted * (1 - predicted) * scale;
+                    for (int i = 0; i < Evaluation.FEATURES; i++) {
+                        sums[i + 1] += slope * features[i];
+                    }
+                }
+            }
+        } finally {
+            inflater.end();
+        }
+        return sums;
+    }
+
+    // Usage: EvaluationTuner <training data> <epochs> <output weights> [starting weights]
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.out.println("Usage: EvaluationTuner <training data> <epochs> <output weights> [starting weights]");
+            return;
+        }
+        Evaluation start = args.length > 3 ? Evaluation.load(Paths.get(args[3])) : Evaluation.DEFAULT;
+        try (TrainingDataReader reader = new TrainingDataReader(Paths.get(args[0]))) {
+            EvaluationTuner tuner = new EvaluationTuner(reader)
+                    .setThreads(Integer.getInteger("ayo.tune.threads", Runtime.getRuntime().availableProcessors()))
+                    .setLearningRate(Double.parseDouble(System.getProperty("ayo.tune.rate", "0.01")));
+            double scale = tuner.fitScale(start);
+            System.out.printf("%d positions, scale=%.4f, starting loss=%.6f%n",
+                    reader.getRowCount(), scale, tuner.loss(start, scale));
+            Evaluation tuned = tuner.tune(start, scale, Integer.parseInt(args[1]));
+            tuned.save(Paths.get(args[2]));
+            System.out.printf("Saved %s, final loss=%.6f%n", tuned, tuner.loss(tuned, scale));
+        }
+    }
+}
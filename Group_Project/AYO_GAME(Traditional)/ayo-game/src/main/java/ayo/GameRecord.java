@@ -0,0 +1,146 @@
+package ayo;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+// One finished game: who played, the opening seed, the result and every move from the initial position.
+// Records are reused: reset() starts a new game and the reader decodes into the same instance each time.
+//
+// Encoded as a varint body length followed by the body: player A type, player B type, result, score A and
+// score B as single bytes, the seed as 8 bytes, a varint move count, then one varint per move.
+public class GameRecord {
+    public static final int HUMAN = 0;
+
+    private int playerA;
+    private int playerB;
+    private long seed;
+    private GameResult result = GameResult.DRAW;
+    private int scoreA;
+    private int scoreB;
+    private byte[] moves = new byte[256];
+    private int moveCount;
+
+    // HUMAN for a person, otherwise 1 + the strategy's ordinal.
+    public static int playerType(AiStrategy strategy) {
+        return strategy == null ? HUMAN : 1 + strategy.ordinal();
+    }
+
+    public void reset(int playerA, int playerB, long seed) {
+        this.playerA = playerA;
+        this.playerB = playerB;
+        this.seed = seed;
+        result = GameResult.DRAW;
+        scoreA = 0;
+        scoreB = 0;
+        moveCount = 0;
+    }
+
+    public void addMove(int move) {
+        if (moveCount == moves.length) {
+            moves = Arrays.copyOf(moves, moves.length * 2);
+        }
+        moves[moveCount++] = (byte) move;
+    }
+
+    public void finish(AyoEngine engine) {
+        scoreA = engine.getScore(0);
+        scoreB = engine.getScore(1);
+        result = GameResult.fromScores(scoreA, scoreB);
+    }
+
+    // Plays the recorded moves on a freshly reset engine.
+    public void replay(AyoEngine engine) {
+        engine.reset();
+        for (int i = 0; i < moveCount; i++) {
+            engine.applyMove(moves[i]);
+        }
+    }
+
+    public int getPlayerA() {
+        return playerA;
+    }
+
+    public int getPlayerB() {
+        return playerB;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public GameResult getResult() {
+        return result;
+    }
+
+    public int getScore(int side) {
+        return side == 0 ? scoreA : scoreB;
+    }
+
+    public int getMoveCount() {
+        return moveCount;
+    }
+
+    public int getMove(int ply) {
+        return moves[ply];
+    }
+
+    int bodyBytes() {
+        return 5 + Long.BYTES + varintBytes(moveCount) + moveCount;
+    }
+
+    void encode(ByteBuffer out) {
+        putVarint(out, bodyBytes());
+        out.put((byte) playerA).put((byte) playerB).put((byte) result.ordinal())
+                .put((byte) scoreA).put((byte) scoreB).putLong(seed);
+        putVarint(out, moveCount);
+        for (int i = 0; i < moveCount; i++) {
+            putVarint(out, moves[i]);
+        }
+    }
+
+    // Reads one body of the given length; the length varint has already been consumed.
+    void decode(ByteBuffer in, int length) {
+        int end = in.position() + length;
+        playerA = in.get();
+        playerB = in.get();
+        result = GameResult.values()[in.get()];
+        scoreA = in.get();
+        scoreB = in.get();
+        seed = in.getLong();
+        int count = getVarint(in);
+        if (moves.length < count) {
+            moves = new byte[Integer.highestOneBit(count) << 1];
+        }
+        for (int i = 0; i < count; i++) {
+            moves[i] = (byte) getVarint(in);
+        }
+        moveCount = count;
+        if (in.position() != end) {
+            throw new IllegalArgumentException("Game record body does not match its length " + length);
+        }
+    }
+
+    static int varintBytes(int value) {
+        int bytes = 1;
+        while ((value >>>= 7) != 0) bytes++;
+        return bytes;
+    }
+
+    static void putVarint(ByteBuffer out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    static int getVarint(ByteBuffer in) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = in.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) return value;
+        }
+        throw new IllegalArgumentException("Varint longer than 32 bits");
+    }
+}
@@ -0,0 +1,89 @@
+package ayo;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+// Streams records out of a game record file through one reused buffer, so files far larger than the heap
+// can be scanned; each call to next() overwrites the record it is given.
+public class GameRecordReader implements Closeable {
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(GameRecordWriter.BUFFER_BYTES);
+
+    public GameRecordReader(Path file) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.READ);
+        buffer.limit(0);
+        if (!fill(GameRecordWriter.HEADER_BYTES)
+                || buffer.getInt() != GameRecordWriter.MAGIC || buffer.getInt() != GameRecordWriter.VERSION) {
+            channel.close();
+            throw new IOException("Not a game record file: " + file);
+        }
+    }
+
+    // Returns false at the end of the file.
+    public boolean next(GameRecord record) throws IOException {
+        if (!fill(1)) {
+            return false;
+        }
+        fill(5);
+        try {
+            int length = GameRecord.getVarint(buffer);
+            if (length < 0 || length > GameRecordWriter.BUFFER_BYTES) {
+                throw new IllegalArgumentException("Game record length " + length + " is out of range");
+            }
+            if (!fill(length)) {
+                throw new EOFException("Game record file ends inside a record");
+            }
+            record.decode(buffer, length);
+        } catch (RuntimeException e) {
+            throw new IOException("Corrupt game record at file offset " + (channel.position() - buffer.remaining()), e);
+        }
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    // Tops the buffer up until at least bytes are readable; false if the file ends first.
+    private boolean fill(int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) {
+            return true;
+        }
+        if (bytes > buffer.capacity()) {
+            throw new IOException("Cannot buffer " + bytes + " bytes, the read buffer holds " + buffer.capacity());
+        }
+        buffer.compact();
+        while (buffer.position() < bytes) {
+            if (channel.read(buffer) < 0) break;
+        }
+        buffer.flip();
+        return buffer.remaining() >= bytes;
+    }
+
+    // Usage: GameRecordReader <file>
+    public static void main(String[] args) throws IOException {
+        long start = System.nanoTime();
+        long games = 0;
+        long plies = 0;
+        long[] results = new long[GameResult.values().length];
+        GameRecord record = new GameRecord();
+        try (GameRecordReader reader = new GameRecordReader(Paths.get(args[0]))) {
+            while (reader.next(record)) {
+                games++;
+                plies += record.getMoveCount();
+                results[record.getResult().ordinal()]++;
+            }
+        }
+        System.out.printf("%d games, A/B/draw=%d/%d/%d, avgPlies=%.1f, scanned in %.2f s%n", games,
+                results[GameResult.PLAYER_A_WINS.ordinal()], results[GameResult.PLAYER_B_WINS.ordinal()],
+                results[GameResult.DRAW.ordinal()], games == 0 ? 0.0 : (double) plies / games,
+                (System.nanoTime() - start) / 1e9);
+    }
+}
@@ -0,0 +1,128 @@
+package ayo;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// Appends game records to a file. Callers only copy the encoded record into an in-memory buffer; full buffers
+// are written by a background thread while the caller fills the next one, so a game never waits on the disk
+// unless the disk falls BUFFERS buffers behind. Safe to share between threads.
+//
+// File layout: magic and version as 4-byte ints, then records back to back (see GameRecord). Opening an
+// existing file appends to it.
+public class GameRecordWriter implements Closeable {
+    static final int MAGIC = 0x41594F47;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 8;
+    static final int BUFFER_BYTES = 1 << 20;
+
+    private static final int BUFFERS = 4;
+
+    private final FileChannel channel;
+    private final ExecutorService io = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ayo-record-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final BlockingQueue<ByteBuffer> free = new ArrayBlockingQueue<>(BUFFERS);
+    private ByteBuffer current;
+    private volatile IOException failure;
+    private long records;
+
+    public GameRecordWriter(Path file) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (channel.size() == 0) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).putInt(MAGIC).putInt(VERSION).flip();
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+        } else {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            channel.read(header, 0);
+            header.flip();
+            if (header.remaining() < HEADER_BYTES || header.getInt() != MAGIC || header.getInt() != VERSION) {
+                channel.close();
+                throw new IOException("Not a game record file: " + file);
+            }
+            channel.position(channel.size());
+        }
+        for (int i = 0; i < BUFFERS; i++) {
+            free.add(ByteBuffer.allocateDirect(BUFFER_BYTES));
+        }
+        current = free.remove();
+    }
+
+    public synchronized void append(GameRecord record) throws IOException {
+        checkFailure();
+        int bytes = GameRecord.varintBytes(record.bodyBytes()) + record.bodyBytes();
+        if (bytes > BUFFER_BYTES) {
+            throw new IllegalArgumentException("Game record of " + bytes + " bytes does not fit the write buffer");
+        }
+        if (current.remaining() < bytes) {
+            handOff();
+        }
+        record.encode(current);
+        records++;
+    }
+
+    public synchronized long getRecordCount() {
+        return records;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            if (current.position() > 0) {
+                handOff();
+            }
+            io.shutdown();
+            if (!io.awaitTermination(1, TimeUnit.MINUTES)) {
+                throw new IOException("Timed out writing game records");
+            }
+            checkFailure();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while closing the game record file");
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void handOff() throws IOException {
+        ByteBuffer full = current.flip();
+        io.execute(() -> write(full));
+        try {
+            current = free.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a game record buffer");
+        }
+    }
+
+    private void write(ByteBuffer buffer) {
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            failure = e;
+        } finally {
+            free.add(buffer.clear());
+        }
+    }
+
+    private void checkFailure() throws IOException {
+        if (failure != null) {
+            throw new IOException("Writing game records failed", failure);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package ayo;
+
+public enum GameResult {
+    PLAYER_A_WINS,
+    PLAYER_B_WINS,
+    DRAW;
+
+    public static GameResult fromScores(int scoreA, int scoreB) {
+        if (scoreA > scoreB) return PLAYER_A_WINS;
+        if (scoreB > scoreA) return PLAYER_B_WINS;
+        return DRAW;
+    }
+}
@@ -0,0 +1,94 @@
+package ayo;
+
+import java.util.Arrays;
+
+public class GameState {
+    public static final int PITS = Board.PIT_COUNT;
+    public static final int PITS_PER_SIDE = Rules.PITS_PER_SIDE;
+
+    private final byte[] pits = new byte[PITS];
+    private final int[] scores = new int[2];
+    private int sideToMove;
+
+    public GameState() {
+        Arrays.fill(pits, (byte) Board.INITIAL_SEEDS);
+    }
+
+    public void load(Board board, int scoreA, int scoreB, int side) {
+        for (int i = 0; i < PITS; i++) {
+            pits[i] = (byte) board.getSeedCount(i);
+        }
+        scores[0] = scoreA;
+        scores[1] = scoreB;
+        sideToMove = side;
+    }
+
+    public void load(int[] pitCounts, int scoreA, int scoreB, int side) {
+        for (int i = 0; i < PITS; i++) {
+            pits[i] = (byte) pitCounts[i];
+        }
+        scores[0] = scoreA;
+        scores[1] = scoreB;
+        sideToMove = side;
+    }
+
+    public void copyFrom(GameState other) {
+        System.arraycopy(other.pits, 0, pits, 0, PITS);
+        scores[0] = other.scores[0];
+        scores[1] = other.scores[1];
+        sideToMove = other.sideToMove;
+    }
+
+    // The live array, for the rules kernel and the evaluation.
+    byte[] pits() {
+        return pits;
+    }
+
+    public int getSeedCount(int pit) {
+        return pits[pit];
+    }
+
+    public int getScore(int side) {
+        return scores[side];
+    }
+
+    public int getSideToMove() {
+        return sideToMove;
+    }
+
+    // The position seen from the side to move. Swapping the two rows and the scores turns a side 1 position into
+    // the equivalent side 0 one, so hashes and table indexes built from these values store each pair only once.
+    public int getCanonicalSeedCount(int pit) {
+        return pits[sideToMove == 0 ? pit : (pit + PITS_PER_SIDE) % PITS];
+    }
+
+    public int getCanonicalScore(int side) {
+        return scores[side ^ sideToMove];
+    }
+
+    public boolean isLegal(int move) {
+        return Rules.isLegal(pits, sideToMove, move);
+    }
+
+    public boolean isTerminal() {
+        return Rules.isRowEmpty(pits, sideToMove);
+    }
+
+    public void makeMove(int move, MoveUndo undo) {
+        int side = sideToMove;
+        scores[side] += Rules.play(pits, side, move, undo);
+        sideToMove = 1 - side;
+    }
+
+    public void unmakeMove(MoveUndo undo) {
+        Rules.unplay(pits, undo);
+        scores[undo.side] -= undo.scoreDelta;
+        sideToMove = undo.side;
+    }
+
+    @Override
+    public String toString() {
+        return "GameState{" + "pits=" + Arrays.toString(pits) + ", scores=" + Arrays.toString(scores)
+                + ", sideToMove=" + sideToMove + '}';
+    }
+}
@@ -0,0 +1,47 @@
+package ayo;
+
+public class Match {
+    private final AyoEngine engine;
+    private final Agent[] agents;
+    private Renderer renderer;
+    private GameRecord record;
+
+    public Match(AyoEngine engine, Agent agentA, Agent agentB) {
+        this.engine = engine;
+        this.agents = new Agent[] {agentA, agentB};
+    }
+
+    public Match setRenderer(Renderer renderer) {
+        this.renderer = renderer;
+        return this;
+    }
+
+    // Moves played are appended to the record and the result is filled in at the end; the caller resets it.
+    public Match setRecord(GameRecord record) {
+        this.record = record;
+        return this;
+    }
+
+    public AyoEngine getEngine() {
+        return engine;
+    }
+
+    // Plays from the engine's current position to the end; the engine is not reset first.
+    public GameResult play() {
+        if (renderer != null) renderer.gameStarted(engine);
+
+        while (!engine.isGameOver()) {
+            if (renderer != null) renderer.turnStarted(engine);
+            int side = engine.getSideToMove();
+            int move = agents[side].chooseMove(engine);
+            int captured = engine.applyMove(move);
+            if (record != null) record.addMove(move);
+            if (renderer != null) renderer.moveApplied(engine, side, move, captured);
+        }
+
+        GameResult result = engine.getResult();
+        if (record != null) record.finish(engine);
+        if (renderer != null) renderer.gameFinished(engine, result);
+        return result;
+    }
+}
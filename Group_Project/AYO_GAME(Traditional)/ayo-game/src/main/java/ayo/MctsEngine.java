@@ -0,0 +1,206 @@
+package ayo;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class MctsEngine {
+    public static final int DEFAULT_CAPACITY = 1 << 20;
+    public static final int MAX_PLAYOUT_PLIES = 400;
+
+    private static final float EXPLORATION = 1.41f;
+    private static final int UNEXPANDED = -1;
+
+    // Tree nodes live in parallel arrays; node 0 is the root and the children of a node are contiguous.
+    private final int capacity;
+    private final int[] parent;
+    private final byte[] move;
+    private final byte[] mover;
+    private final int[] firstChild;
+    private final byte[] childCount;
+    private final int[] visits;
+    private final float[] wins;
+    private int size;
+
+    private final GameState state = new GameState();
+    private final MoveUndo undo = new MoveUndo();
+    private final SplittableRandom random;
+    private final int[] legal = new int[GameState.PITS_PER_SIDE];
+    private int maxTreeDepth;
+    private EndgameTablebase tablebase;
+
+    public MctsEngine(long seed) {
+        this(DEFAULT_CAPACITY, seed);
+    }
+
+    public MctsEngine(int capacity, long seed) {
+        if (capacity < 1 + GameState.PITS_PER_SIDE) {
+            throw new IllegalArgumentException("MCTS arena too small: " + capacity);
+        }
+        this.capacity = capacity;
+        parent = new int[capacity];
+        move = new byte[capacity];
+        mover = new byte[capacity];
+        firstChild = new int[capacity];
+        childCount = new byte[capacity];
+        visits = new int[capacity];
+        wins = new float[capacity];
+        random = new SplittableRandom(seed);
+    }
+
+    public void setTablebase(EndgameTablebase tablebase) {
+        this.tablebase = tablebase;
+    }
+
+    // Runs playouts from root until the budget or the stop check trips; returns the number of playouts.
+    public long run(GameState root, long maxPlayouts, long deadline, AtomicBoolean stop) {
+        reset(root);
+        long playouts = 0;
+        do {
+            iterate(root);
+            playouts++;
+        } while ((maxPlayouts == 0 || playouts < maxPlayouts)
+                && ((playouts & 255) != 0 || (System.nanoTime() < deadline && !stop.get())));
+        return playouts;
+    }
+
+    private void reset(GameState root) {
+        size = 1;
+        parent[0] = -1;
+        move[0] = -1;
+        mover[0] = (byte) (1 - root.getSideToMove());
+        firstChild[0] = UNEXPANDED;
+        childCount[0] = 0;
+        visits[0] = 0;
+        wins[0] = 0f;
+        maxTreeDepth = 0;
+    }
+
+    private void iterate(GameState root) {
+        state.copyFrom(root);
+        int node = 0;
+        int depth = 0;
+
+        while (firstChild[node] != UNEXPANDED && childCount[node] > 0) {
+            node = selectChild(node);
+            state.makeMove(move[node], undo);
+            depth++;
+        }
+        if (firstChild[node] == UNEXPANDED && visits[node] > 0 && !state.isTerminal() && expand(node)) {
+            node = firstChild[node] + random.nextInt(childCount[node]);
+            state.makeMove(move[node], undo);
+            depth++;
+        }
+        maxTreeDepth = Math.max(maxTreeDepth, depth);
+
+        float resultForA = playout();
+        while (node >= 0) {
+            visits[node]++;
+            wins[node] += (mover[node] == 0) ? resultForA : 1f - resultForA;
+            node = parent[node];
+        }
+    }
+
+    private int selectChild(int node) {
+        int first = firstChild[node];
+        int count = childCount[node];
+        float logVisits = (float) Math.log(visits[node]);
+        int best = first;
+        float bestValue = Float.NEGATIVE_INFINITY;
+        for (int child = first; child < first + count; child++) {
+            if (visits[child] == 0) {
+                return child;
+            }
+            float value = wins[child] / visits[child]
+                    + EXPLORATION * (float) Math.sqrt(logVisits / visits[child]);
+            if (value > bestValue) {
+                bestValue = value;
+                best = child;
+            }
+        }
+        return best;
+    }
+
+    private boolean expand(int node) {
+        if (size + GameState.PITS_PER_SIDE > capacity) {
+            return false;
+        }
+        int side = state.getSideToMove();
+        int first = size;
+        for (int m = 0; m < GameState.PITS_PER_SIDE; m++) {
+            if (!state.isLegal(m)) continue;
+            parent[size] = node;
+            move[size] = (byte) m;
+            mover[size] = (byte) side;
+            firstChild[size] = UNEXPANDED;
+            childCount[size] = 0;
+            visits[size] = 0;
+            wins[size] = 0f;
+            size++;
+        }
+        firstChild[node] = first;
+        childCount[node] = (byte) (size - first);
+        return true;
+    }
+
+    private float playout() {
+        int future = 0;
+        for (int ply = 0; ply < MAX_PLAYOUT_PLIES && !state.isTerminal(); ply++) {
+            if (tablebase != null) {
+                future = tablebase.probe(state);
+                if (future != EndgameTablebase.UNKNOWN) {
+                    // The tablebase value belongs to the side to move; turn it into side 0's gain.
+                    future = state.getSideToMove() == 0 ? future : -future;
+                    break;
+                }
+                future = 0;
+            }
+            int count = 0;
+            for (int m = 0; m < GameState.PITS_PER_SIDE; m++) {
+                if (state.isLegal(m)) legal[count++] = m;
+            }
+            state.makeMove(legal[random.nextInt(count)], undo);
+        }
+        int diff = state.getScore(0) - state.getScore(1) + future;
+        return diff > 0 ? 1f : diff < 0 ? 0f : 0.5f;
+    }
+
+    public int getRootVisits(int rootMove) {
+        int child = rootChild(rootMove);
+        return child < 0 ? 0 : visits[child];
+    }
+
+    public float getRootWins(int rootMove) {
+        int child = rootChild(rootMove);
+        return child < 0 ? 0f : wins[child];
+    }
+
+    public int getMaxTreeDepth() {
+        return maxTreeDepth;
+    }
+
+    // Most-visited line from the root, used as the principal variation.
+    public int[] principalVariation() {
+        int[] line = new int[maxTreeDepth];
+        int length = 0;
+        int node = 0;
+        while (firstChild[node] != UNEXPANDED && childCount[node] > 0 && length < line.length) {
+            int best = -1;
+            for (int child = firstChild[node]; child < firstChild[node] + childCount[node]; child++) {
+                if (best < 0 || visits[child] > visits[best]) best = child;
+            }
+            if (visits[best] == 0) break;
+            line[length++] = move[best];
+            node = best;
+        }
+        return Arrays.copyOf(line, length);
+    }
+
+    private int rootChild(int rootMove) {
+        if (firstChild[0] == UNEXPANDED) return -1;
+        for (int child = firstChild[0]; child < firstChild[0] + childCount[0]; child++) {
+            if (move[child] == rootMove) return child;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,138 @@
+package ayo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class MctsSearch implements AiSearch {
+    private final AtomicBoolean stopSignal = new AtomicBoolean();
+    private final MctsEngine[] engines;
+    private final GameState[] workerStates;
+    private final ExecutorService workers;
+
+    public MctsSearch() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public MctsSearch(int threads) {
+        this(threads, new SplittableRandom().nextLong());
+    }
+
+    public MctsSearch(int threads, long seed) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Search needs at least one thread: " + threads);
+        }
+        SplittableRandom seeds = new SplittableRandom(seed);
+        engines = new MctsEngine[threads];
+        workerStates = new GameState[threads];
+        for (int i = 0; i < threads; i++) {
+            engines[i] = new MctsEngine(seeds.nextLong());
+            workerStates[i] = new GameState();
+        }
+        workers = threads > 1
+                ? Executors.newFixedThreadPool(threads - 1, runnable -> {
+                    Thread thread = new Thread(runnable, "ayo-mcts-worker");
+                    thread.setDaemon(true);
+                    return thread;
+                })
+                : null;
+    }
+
+    @Override
+    public void setTablebase(EndgameTablebase tablebase) {
+        for (MctsEngine engine : engines) {
+            engine.setTablebase(tablebase);
+        }
+    }
+
+    // Playouts run to the end of the game, so there is no horizon to evaluate.
+    @Override
+    public void setEvaluation(Evaluation evaluation) {
+    }
+
+    // Root parallelism: each thread grows its own tree from the root and the root statistics are summed.
+    // Limits are read as a time budget and a playout budget per thread; the depth limit does not apply.
+    @Override
+    public SearchResult search(GameState root, SearchLimits limits) {
+        EngineEvents.SearchEvent event = new EngineEvents.SearchEvent();
+        event.begin();
+        stopSignal.set(false);
+        long start = System.nanoTime();
+        long deadline = limits.getTimeMillis() > 0
+                ? System.nanoTime() + limits.getTimeMillis() * 1_000_000L
+                : Long.MAX_VALUE;
+        long maxPlayouts = limits.getMaxNodes();
+        if (maxPlayouts == 0 && deadline == Long.MAX_VALUE) {
+            throw new IllegalArgumentException("MCTS needs a time or playout budget: " + limits);
+        }
+
+        List<Future<Long>> futures = new ArrayList<>(engines.length - 1);
+        for (int i = 1; i < engines.length; i++) {
+            GameState workerState = workerStates[i];
+            workerState.copyFrom(root);
+            MctsEngine engine = engines[i];
+            futures.add(workers.submit(() -> engine.run(workerState, maxPlayouts, deadline, stopSignal)));
+        }
+        workerStates[0].copyFrom(root);
+        long playouts = engines[0].run(workerStates[0], maxPlayouts, deadline, stopSignal);
+        stopSignal.set(true);
+        for (Future<Long> future : futures) {
+            playouts += awaitWorker(future);
+        }
+
+        int bestMove = -1;
+        long bestVisits = -1;
+        float bestWins = 0f;
+        for (int move = 0; move < GameState.PITS_PER_SIDE; move++) {
+            if (!root.isLegal(move)) continue;
+            long visits = 0;
+            float wins = 0f;
+            for (MctsEngine engine : engines) {
+                visits += engine.getRootVisits(move);
+                wins += engine.getRootWins(move);
+            }
+            if (visits > bestVisits) {
+                bestMove = move;
+                bestVisits = visits;
+                bestWins = wins;
+            }
+        }
+
+        // Expected result of the chosen move mapped onto the minimax scale: +WIN_SCORE is a sure win.
+        float winRate = bestVisits > 0 ? bestWins / bestVisits : 0.5f;
+        int score = Math.round((2f * winRate - 1f) * SearchEngine.WIN_SCORE);
+        int[] pv = engines[0].principalVariation();
+        if (pv.length == 0 || pv[0] != bestMove) {
+            pv = bestMove < 0 ? new int[0] : new int[] {bestMove};
+        }
+        int depth = engines[0].getMaxTreeDepth();
+        SearchStats stats = new SearchStats(playouts, depth, System.nanoTime() - start, 0, 0, 0, 0,
+                new long[0], new long[0]);
+        SearchResult result = new SearchResult(bestMove, score, depth, pv, playouts, stats);
+        EngineEvents.commitSearch(event, "mcts", engines.length, result);
+        return result;
+    }
+
+    private static long awaitWorker(Future<Long> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 0L;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("MCTS worker failed", e.getCause());
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (workers != null) {
+            workers.shutdownNow();
+        }
+    }
+}
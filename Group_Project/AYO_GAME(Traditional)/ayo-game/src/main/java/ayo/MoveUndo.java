@@ -0,0 +1,26 @@
+package ayo;
+
+public class MoveUndo {
+    final byte[] before = new byte[Board.PIT_COUNT];
+    int move;
+    int side;
+    int sownMask;
+    int capturedMask;
+    int scoreDelta;
+
+    public int getMove() {
+        return move;
+    }
+
+    public int getSownMask() {
+        return sownMask;
+    }
+
+    public int getCapturedMask() {
+        return capturedMask;
+    }
+
+    public int getScoreDelta() {
+        return scoreDelta;
+    }
+}
@@ -0,0 +1,78 @@
+package ayo;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+// Best moves for the early positions, keyed by canonical Zobrist hash (mirrors share an entry) and sorted so a lookup is one binary search.
+// File layout: magic, version, entry count, then per entry the hash, the move and the search score.
+public class OpeningBook {
+    public static final int NO_MOVE = -1;
+
+    static final int MAGIC = 0x41594F42;
+    static final int VERSION = 4;
+
+    private final long[] keys;
+    private final byte[] moves;
+    private final short[] scores;
+
+    // Entries must already be sorted by key with no duplicates.
+    OpeningBook(long[] keys, byte[] moves, short[] scores) {
+        this.keys = keys;
+        this.moves = moves;
+        this.scores = scores;
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    public int lookupMove(GameState state) {
+        int at = Arrays.binarySearch(keys, Zobrist.hash(state));
+        return at >= 0 ? moves[at] : NO_MOVE;
+    }
+
+    public int lookupScore(GameState state) {
+        int at = Arrays.binarySearch(keys, Zobrist.hash(state));
+        return at >= 0 ? scores[at] : 0;
+    }
+
+    public void save(Path file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(keys.length);
+            for (int i = 0; i < keys.length; i++) {
+                out.writeLong(keys[i]);
+                out.writeByte(moves[i]);
+                out.writeShort(scores[i]);
+            }
+        }
+    }
+
+    public static OpeningBook load(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("Not an Ayo opening book: " + file);
+            }
+            int size = in.readInt();
+            long[] keys = new long[size];
+            byte[] moves = new byte[size];
+            short[] scores = new short[size];
+            for (int i = 0; i < size; i++) {
+                keys[i] = in.readLong();
+                moves[i] = in.readByte();
+                scores[i] = in.readShort();
+                if (i > 0 && keys[i] <= keys[i - 1]) {
+                    throw new IOException("Opening book " + file + " is not sorted at entry " + i);
+                }
+            }
+            return new OpeningBook(keys, moves, scores);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package ayo;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+// Enumerates every position the live game can reach in the first plies, searches each one deeply and
+// writes the results as an OpeningBook. Positions are searched in parallel, one engine per pool thread.
+public class OpeningBookBuilder {
+    private final int plies;
+    private final SearchLimits limits;
+
+    public OpeningBookBuilder(int plies, SearchLimits limits) {
+        this.plies = plies;
+        this.limits = limits;
+    }
+
+    public OpeningBook build() {
+        List<GameState> positions = new ArrayList<>();
+        AyoEngine engine = new AyoEngine();
+        engine.reset();
+        collect(engine, plies, new HashSet<>(), positions);
+
+        long[] keys = new long[positions.size()];
+        byte[] moves = new byte[positions.size()];
+        short[] scores = new short[positions.size()];
+        ThreadLocal<SearchEngine> engines = ThreadLocal.withInitial(SearchEngine::new);
+        IntStream.range(0, positions.size()).parallel().forEach(i -> {
+            GameState position = positions.get(i);
+            keys[i] = Zobrist.hash(position);
+            SearchResult result = engines.get().search(position, limits);
+            moves[i] = (byte) result.getBestMove();
+            scores[i] = (short) result.getScore();
+        });
+
+        Integer[] order = new Integer[keys.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(keys[a], keys[b]));
+        long[] sortedKeys = new long[keys.length];
+        byte[] sortedMoves = new byte[keys.length];
+        short[] sortedScores = new short[keys.length];
+        for (int i = 0; i < order.length; i++) {
+            sortedKeys[i] = keys[order[i]];
+            sortedMoves[i] = moves[order[i]];
+            sortedScores[i] = scores[order[i]];
+        }
+        return new OpeningBook(sortedKeys, sortedMoves, sortedScores);
+    }
+
+    private static void collect(AyoEngine engine, int pliesLeft, Set<Long> seen, List<GameState> positions) {
+        if (engine.isGameOver()) return;
+        GameState position = new GameState();
+        engine.copyTo(position);
+        if (!seen.add(Zobrist.hash(position))) return;
+        positions.add(position);
+        if (pliesLeft == 0) return;
+
+        AyoEngine child = new AyoEngine();
+        for (int move = 0; move < AyoEngine.PITS_PER_SIDE; move++) {
+            if (!engine.isLegal(move)) continue;
+            child.copyFrom(engine);
+            child.applyMove(move);
+            collect(child, pliesLeft - 1, seen, positions);
+        }
+    }
+
+    // Usage: OpeningBookBuilder <plies> <search depth> <output file>
+    public static void main(String[] args) throws IOException {
+        int plies = Integer.parseInt(args[0]);
+        int depth = Integer.parseInt(args[1]);
+        long start = System.nanoTime();
+        OpeningBook book = new OpeningBookBuilder(plies, SearchLimits.depth(depth)).build();
+        book.save(Paths.get(args[2]));
+        System.out.printf("Searched %d positions to depth %d in %.1f s%n",
+                book.size(), depth, (System.nanoTime() - start) / 1e9);
+    }
+}
@@ -0,0 +1,130 @@
+package ayo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class ParallelSearch implements AiSearch {
+    private final TranspositionTable table;
+    private final AtomicBoolean stopSignal = new AtomicBoolean();
+    private final SearchEngine[] engines;
+    private final GameState[] helperStates;
+    private final ExecutorService helpers;
+
+    public ParallelSearch() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public ParallelSearch(int threads) {
+        this(threads, new TranspositionTable());
+    }
+
+    public ParallelSearch(int threads, TranspositionTable table) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Search needs at least one thread: " + threads);
+        }
+        this.table = table;
+        engines = new SearchEngine[threads];
+        helperStates = new GameState[threads];
+        for (int i = 0; i < threads; i++) {
+            engines[i] = new SearchEngine(table, i, stopSignal);
+            helperStates[i] = new GameState();
+        }
+        helpers = threads > 1
+                ? Executors.newFixedThreadPool(threads - 1, runnable -> {
+                    Thread thread = new Thread(runnable, "ayo-search-helper");
+                    thread.setDaemon(true);
+                    return thread;
+                })
+                : null;
+    }
+
+    @Override
+    public void setTablebase(EndgameTablebase tablebase) {
+        for (SearchEngine engine : engines) {
+            engine.setTablebase(tablebase);
+        }
+    }
+
+    @Override
+    public void setEvaluation(Evaluation evaluation) {
+        for (SearchEngine engine : engines) {
+            engine.setEvaluation(evaluation);
+        }
+    }
+
+    public int getThreads() {
+        return engines.length;
+    }
+
+    // Lazy SMP: every thread searches the whole tree and they cooperate only through the shared table.
+    // The main thread owns the budget; when it finishes, the helpers are stopped and the deepest result wins.
+    @Override
+    public SearchResult search(GameState root, SearchLimits limits) {
+        EngineEvents.SearchEvent event = new EngineEvents.SearchEvent();
+        event.begin();
+        table.newSearch();
+        stopSignal.set(false);
+
+        List<Future<SearchResult>> futures = new ArrayList<>(engines.length - 1);
+        for (int i = 1; i < engines.length; i++) {
+            GameState helperState = helperStates[i];
+            helperState.copyFrom(root);
+            SearchEngine engine = engines[i];
+            futures.add(helpers.submit(() -> engine.iterate(helperState, limits)));
+        }
+
+        long start = System.nanoTime();
+        SearchResult main = engines[0].iterate(root, limits);
+        stopSignal.set(true);
+
+        SearchResult best = main;
+        long nodes = main.getStats().getNodes();
+        long probes = main.getStats().getTableProbes();
+        long hits = main.getStats().getTableHits();
+        long cutoffs = main.getStats().getTableCutoffs();
+        long tablebaseHits = main.getStats().getTablebaseHits();
+        for (Future<SearchResult> future : futures) {
+            SearchResult result = awaitHelper(future);
+            if (result == null) continue;
+            SearchStats helper = result.getStats();
+            nodes += helper.getNodes();
+            probes += helper.getTableProbes();
+            hits += helper.getTableHits();
+            cutoffs += helper.getTableCutoffs();
+            tablebaseHits += helper.getTablebaseHits();
+            if (result.getDepth() > best.getDepth()) {
+                best = result;
+            }
+        }
+        // Counters are summed over all threads; iteration timings are the main thread's.
+        SearchStats stats = new SearchStats(nodes, best.getDepth(), System.nanoTime() - start, probes, hits,
+                cutoffs, tablebaseHits, main.getStats().getIterationNanos(), main.getStats().getIterationNodes());
+        SearchResult result = new SearchResult(best.getBestMove(), best.getScore(), best.getDepth(),
+                best.getPrincipalVariation(), nodes, stats);
+        EngineEvents.commitSearch(event, "alpha-beta", engines.length, result);
+        return result;
+    }
+
+    private static SearchResult awaitHelper(Future<SearchResult> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Search helper failed", e.getCause());
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (helpers != null) {
+            helpers.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package ayo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+// Counts the positions exactly depth plies from a start position using the live game rules. A game that
+// ends earlier contributes no leaves, as with checkmate in chess perft.
+public class Perft {
+    // Leaf counts from the opening position, used to catch rule changes hidden in rules-kernel optimizations.
+    static final long[] START_COUNTS = {
+        1L, 6L, 36L, 186L, 973L, 4795L, 23913L, 115705L, 568152L, 2767025L, 13577468L
+    };
+
+    private final AyoEngine[] stack;
+
+    public Perft(int maxDepth) {
+        stack = new AyoEngine[maxDepth + 1];
+        for (int i = 0; i < stack.length; i++) {
+            stack[i] = new AyoEngine();
+        }
+    }
+
+    public long perft(AyoEngine root, int depth) {
+        if (depth < 0) {
+            throw new IllegalArgumentException("Perft depth " + depth + " is below 0");
+        }
+        if (depth >= stack.length) {
+            throw new IllegalArgumentException("Perft depth " + depth + " exceeds " + (stack.length - 1));
+        }
+        stack[depth].copyFrom(root);
+        return count(depth);
+    }
+
+    private long count(int depth) {
+        AyoEngine position = stack[depth];
+        if (depth == 0) {
+            return 1;
+        }
+        if (position.isGameOver()) {
+            return 0;
+        }
+        AyoEngine child = stack[depth - 1];
+        long leaves = 0;
+        for (int move = 0; move < AyoEngine.PITS_PER_SIDE; move++) {
+            if (!position.isLegal(move)) continue;
+            child.copyFrom(position);
+            child.applyMove(move);
+            leaves += count(depth - 1);
+        }
+        return leaves;
+    }
+
+    // Leaf count below each legal root move; illegal moves stay at zero.
+    public long[] divide(AyoEngine root, int depth) {
+        if (depth < 1) {
+            throw new IllegalArgumentException("Divide depth " + depth + " is below 1");
+        }
+        long[] counts = new long[AyoEngine.PITS_PER_SIDE];
+        AyoEngine child = new AyoEngine();
+        for (int move = 0; move < AyoEngine.PITS_PER_SIDE; move++) {
+            if (!root.isLegal(move)) continue;
+            child.copyFrom(root);
+            child.applyMove(move);
+            counts[move] = perft(child, depth - 1);
+        }
+        return counts;
+    }
+
+    public static long parallelPerft(AyoEngine root, int depth, ForkJoinPool pool) {
+        if (depth < 0) {
+            throw new IllegalArgumentException("Perft depth " + depth + " is below 0");
+        }
+        if (depth == 0 || root.isGameOver()) {
+            return depth == 0 ? 1 : 0;
+        }
+        List<RootMoveTask> tasks = new ArrayList<>();
+        for (int move = 0; move < AyoEngine.PITS_PER_SIDE; move++) {
+            if (root.isLegal(move)) {
+                tasks.add(new RootMoveTask(root, move, depth));
+            }
+        }
+        return pool.invoke(new RecursiveTask<Long>() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected Long compute() {
+                long leaves = 0;
+                for (RootMoveTask task : invokeAll(tasks)) {
+                    leaves += task.join();
+                }
+                return leaves;
+            }
+        });
+    }
+
+    private static class RootMoveTask extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+
+        private final AyoEngine child = new AyoEngine();
+        private final int depth;
+
+        RootMoveTask(AyoEngine root, int move, int depth) {
+            child.copyFrom(root);
+            child.applyMove(move);
+            this.depth = depth;
+        }
+
+        @Override
+        protected Long compute() {
+            return new Perft(depth - 1).perft(child, depth - 1);
+        }
+    }
+
+    // Usage: Perft <depth> [divide|parallel|check]
+    public static void main(String[] args) {
+        int depth = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+        String mode = args.length > 1 ? args[1] : "";
+        AyoEngine root = new AyoEngine();
+        root.reset();
+
+        long start = System.nanoTime();
+        long leaves;
+        if (mode.equals("divide")) {
+            long[] counts = new Perft(depth).divide(root, depth);
+            leaves = 0;
+            for (int move = 0; move < counts.length; move++) {
+                if (!root.isLegal(move)) continue;
+                System.out.println("pit " + (move + 1) + ": " + counts[move]);
+                leaves += counts[move];
+            }
+        } else if (mode.equals("parallel")) {
+            leaves = parallelPerft(root, depth, ForkJoinPool.commonPool());
+        } else {
+            leaves = new Perft(depth).perft(root, depth);
+        }
+        long nanos = System.nanoTime() - start;
+
+        System.out.printf("perft(%d) = %d in %.3f s, %.0f leaves/s%n", depth, leaves, nanos / 1e9, leaves * 1e9 / nanos);
+        if (mode.equals("check")) {
+            if (depth >= START_COUNTS.length) {
+                System.out.println("No known count for depth " + depth);
+                System.exit(2);
+            }
+            boolean match = leaves == START_COUNTS[depth];
+            System.out.println(match ? "OK" : "MISMATCH, expected " + START_COUNTS[depth]);
+            if (!match) System.exit(1);
+        }
+    }
+}
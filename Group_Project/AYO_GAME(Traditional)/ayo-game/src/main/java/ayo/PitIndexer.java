@@ -0,0 +1,65 @@
+package ayo;
+
+// Ranks the ways n seeds can lie in the 12 pits (weak compositions) in lexicographic order, pit 0 first.
+// Positions are ranked in canonical form, as seen from the side to move.
+final class PitIndexer {
+    static final int MAX_SEEDS = Zobrist.MAX_SEEDS;
+
+    // WAYS[p][s] = number of ways to place s seeds in p pits.
+    private static final long[][] WAYS = new long[GameState.PITS + 1][MAX_SEEDS + 1];
+
+    static {
+        WAYS[0][0] = 1;
+        for (int p = 1; p <= GameState.PITS; p++) {
+            long sum = 0;
+            for (int s = 0; s <= MAX_SEEDS; s++) {
+                sum += WAYS[p - 1][s];
+                WAYS[p][s] = sum;
+            }
+        }
+    }
+
+    private PitIndexer() {
+    }
+
+    static long layerSize(int seeds) {
+        return WAYS[GameState.PITS][seeds];
+    }
+
+    static int seedsOnBoard(GameState state) {
+        int seeds = 0;
+        for (int pit = 0; pit < GameState.PITS; pit++) {
+            seeds += state.getSeedCount(pit);
+        }
+        return seeds;
+    }
+
+    static long rank(GameState state, int seeds) {
+        long rank = 0;
+        int remaining = seeds;
+        for (int pit = 0; pit < GameState.PITS - 1; pit++) {
+            int count = state.getCanonicalSeedCount(pit);
+            int pitsLeft = GameState.PITS - 1 - pit;
+            for (int smaller = 0; smaller < count; smaller++) {
+                rank += WAYS[pitsLeft][remaining - smaller];
+            }
+            remaining -= count;
+        }
+        return rank;
+    }
+
+    static void unrank(long rank, int seeds, int[] pits) {
+        int remaining = seeds;
+        for (int pit = 0; pit < GameState.PITS - 1; pit++) {
+            int pitsLeft = GameState.PITS - 1 - pit;
+            int count = 0;
+            while (rank >= WAYS[pitsLeft][remaining - count]) {
+                rank -= WAYS[pitsLeft][remaining - count];
+                count++;
+            }
+            pits[pit] = count;
+            remaining -= count;
+        }
+        pits[GameState.PITS - 1] = remaining;
+    }
+}
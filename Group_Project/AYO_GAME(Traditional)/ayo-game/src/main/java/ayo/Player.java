@@ -1,32 +1,32 @@
+package ayo;
+
 public class Player {
     private String name;
-    private int score;
-    private boolean isAI;
+    private AiStrategy strategy;
     private int pitStart;
     private int pitEnd;
 
     public Player(String name, boolean isAI, int pitStart, int pitEnd) {
+        this(name, isAI ? AiStrategy.MINIMAX : null, pitStart, pitEnd);
+    }
+
+    public Player(String name, AiStrategy strategy, int pitStart, int pitEnd) {
         this.name = name;
-        this.isAI = isAI;
+        this.strategy = strategy;
         this.pitStart = pitStart;
         this.pitEnd = pitEnd;
-        this.score = 0;
     }
 
     public String getName() {
         return name;
     }
     
-    public int getScore() {
-        return score;
-    }
-    
-    public void addScore(int points) {
-        score += points;
+    public boolean isAI() {
+        return strategy != null;
     }
     
-    public boolean isAI() {
-        return isAI;
+    public AiStrategy getStrategy() {
+        return strategy;
     }
     
     public int getPitStart() {
@@ -0,0 +1,165 @@
+package ayo;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+// A block of labelled training positions held column by column: one array per pit, both scores, the side to
+// move, the final outcome for the side to move (+1 win, 0 draw, -1 loss) and the search score it was given.
+//
+// On disk a chunk is its row count and compressed length as 4-byte ints, then the columns back to back in
+// the order above (search scores as 2-byte big-endian) as one deflate stream.
+public class PositionChunk {
+    static final int HEADER_BYTES = 8;
+    static final int ROW_BYTES = Rules.PITS + 4 + Short.BYTES;
+
+    private final byte[][] pits = new byte[Rules.PITS][];
+    private final byte[] scoreA;
+    private final byte[] scoreB;
+    private final byte[] side;
+    private final byte[] outcome;
+    private final short[] searchScore;
+    private final int capacity;
+    private int size;
+    private byte[] raw = new byte[0];
+
+    public PositionChunk(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Chunk capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        for (int pit = 0; pit < Rules.PITS; pit++) {
+            pits[pit] = new byte[capacity];
+        }
+        scoreA = new byte[capacity];
+        scoreB = new byte[capacity];
+        side = new byte[capacity];
+        outcome = new byte[capacity];
+        searchScore = new short[capacity];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getSeedCount(int row, int pit) {
+        return pits[pit][row];
+    }
+
+    public int getScore(int row, int player) {
+        return player == 0 ? scoreA[row] : scoreB[row];
+    }
+
+    public int getSideToMove(int row) {
+        return side[row];
+    }
+
+    public int getOutcome(int row) {
+        return outcome[row];
+    }
+
+    public int getSearchScore(int row) {
+        return searchScore[row];
+    }
+
+    public void load(int row, GameState state, int[] scratch) {
+        for (int pit = 0; pit < Rules.PITS; pit++) {
+            scratch[pit] = pits[pit][row];
+        }
+        state.load(scratch, scoreA[row], scoreB[row], side[row]);
+    }
+
+    boolean isFull() {
+        return size == capacity;
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    void add(GameState state, int result, int score) {
+        for (int pit = 0; pit < Rules.PITS; pit++) {
+            pits[pit][size] = (byte) state.getSeedCount(pit);
+        }
+        scoreA[size] = (byte) state.getScore(0);
+        scoreB[size] = (byte) state.getScore(1);
+        side[size] = (byte) state.getSideToMove();
+        outcome[size] = (byte) result;
+        searchScore[size] = (short) Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, score));
+        size++;
+    }
+
+    // Returns the header and compressed columns, ready to write.
+    ByteBuffer encode(Deflater deflater) {
+        ByteBuffer columns = ByteBuffer.wrap(rawBuffer(size * ROW_BYTES), 0, size * ROW_BYTES);
+        for (byte[] column : pits) {
+            columns.put(column, 0, size);
+        }
+        columns.put(scoreA, 0, size).put(scoreB, 0, size).put(side, 0, size).put(outcome, 0, size);
+        for (int row = 0; row < size; row++) {
+            columns.putShort(searchScore[row]);
+        }
+
+        deflater.reset();
+        deflater.setInput(raw, 0, size * ROW_BYTES);
+        deflater.finish();
+        byte[] out = new byte[HEADER_BYTES + size * ROW_BYTES + 64];
+        int length = HEADER_BYTES;
+        while (!deflater.finished()) {
+            if (length == out.length) {
+                out = Arrays.copyOf(out, out.length * 2);
+            }
+            length += deflater.deflate(out, length, out.length - length);
+        }
+        ByteBuffer encoded = ByteBuffer.wrap(out, 0, length);
+        encoded.putInt(0, size).putInt(4, length - HEADER_BYTES);
+        return encoded;
+    }
+
+    // Replaces the contents with rows positions inflated from the next compressedBytes of in.
+    void decode(ByteBuffer in, int rows, int compressedBytes, Inflater inflater) throws DataFormatException {
+        if (rows > capacity) {
+            throw new IllegalArgumentException("Chunk of " + rows + " rows does not fit capacity " + capacity);
+        }
+        ByteBuffer compressed = in.slice().limit(compressedBytes);
+        in.position(in.position() + compressedBytes);
+        inflater.reset();
+        inflater.setInput(compressed);
+        int expected = rows * ROW_BYTES;
+        byte[] columns = rawBuffer(expected);
+        int length = 0;
+        while (length < expected && !inflater.finished()) {
+            int read = inflater.inflate(columns, length, expected - length);
+            if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                break;
+            }
+            length += read;
+        }
+        if (length != expected) {
+            throw new DataFormatException("Chunk inflated to " + length + " bytes, expected " + expected);
+        }
+
+        ByteBuffer source = ByteBuffer.wrap(columns, 0, expected);
+        for (byte[] column : pits) {
+            source.get(column, 0, rows);
+        }
+        source.get(scoreA, 0, rows).get(scoreB, 0, rows).get(side, 0, rows).get(outcome, 0, rows);
+        for (int row = 0; row < rows; row++) {
+            searchScore[row] = source.getShort();
+        }
+        size = rows;
+    }
+
+    private byte[] rawBuffer(int bytes) {
+        if (raw.length < bytes) {
+            raw = new byte[bytes];
+        }
+        return raw;
+    }
+}
@@ -0,0 +1,11 @@
+package ayo;
+
+public interface Renderer {
+    void gameStarted(AyoEngine engine);
+
+    void turnStarted(AyoEngine engine);
+
+    void moveApplied(AyoEngine engine, int side, int move, int captured);
+
+    void gameFinished(AyoEngine engine, GameResult result);
+}
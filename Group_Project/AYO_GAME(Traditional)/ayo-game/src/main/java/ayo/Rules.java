@@ -0,0 +1,123 @@
+package ayo;
+
+// The one rules kernel: the live game, search, perft and self-play all sow and capture through here.
+// It works on a bare 12-pit byte array and allocates nothing.
+public final class Rules {
+    public static final int PITS = Board.PIT_COUNT;
+    public static final int PITS_PER_SIDE = 6;
+    public static final int MAX_SEEDS = PITS * Board.INITIAL_SEEDS;
+
+    // Indexed by start pit * (MAX_SEEDS + 1) + seeds: what each pit gains, which pits change and where the last seed lands.
+    private static final byte[] SOW_ADD = new byte[PITS * (MAX_SEEDS + 1) * PITS];
+    private static final int[] SOW_MASK = new int[PITS * (MAX_SEEDS + 1)];
+    private static final byte[] SOW_LAST = new byte[PITS * (MAX_SEEDS + 1)];
+
+    static {
+        for (int pit = 0; pit < PITS; pit++) {
+            for (int seeds = 0; seeds <= MAX_SEEDS; seeds++) {
+                int key = pit * (MAX_SEEDS + 1) + seeds;
+                int index = pit;
+                for (int i = 0; i < seeds; i++) {
+                    index = index == PITS - 1 ? 0 : index + 1;
+                    SOW_ADD[key * PITS + index]++;
+                    SOW_MASK[key] |= 1 << index;
+                }
+                SOW_LAST[key] = (byte) index;
+            }
+        }
+    }
+
+    private Rules() {
+    }
+
+    public static boolean isLegal(byte[] pits, int side, int move) {
+        return move >= 0 && move < PITS_PER_SIDE && pits[side * PITS_PER_SIDE + move] > 0;
+    }
+
+    // Bit i is set when pit i (0-5, relative to side) can be played.
+    public static int legalMoves(byte[] pits, int side) {
+        int start = side * PITS_PER_SIDE;
+        int mask = 0;
+        for (int move = 0; move < PITS_PER_SIDE; move++) {
+            if (pits[start + move] > 0) mask |= 1 << move;
+        }
+        return mask;
+    }
+
+    public static boolean isRowEmpty(byte[] pits, int side) {
+        int start = side * PITS_PER_SIDE;
+        for (int i = start; i < start + PITS_PER_SIDE; i++) {
+            if (pits[i] > 0) return false;
+        }
+        return true;
+    }
+
+    // Sows the chosen pit for side and returns the seeds captured. The move must be legal.
+    // When undo is non-null it records every pit it changes so the move can be taken back.
+    public static int play(byte[] pits, int side, int move, MoveUndo undo) {
+        int pit = side * PITS_PER_SIDE + move;
+        int seeds = pits[pit];
+        if (undo != null) {
+            System.arraycopy(pits, 0, undo.before, 0, PITS);
+            undo.move = move;
+            undo.side = side;
+            undo.sownMask = 1 << pit;
+            undo.capturedMask = 0;
+        }
+
+        pits[pit] = 0;
+        int key = pit * (MAX_SEEDS + 1) + seeds;
+        int add = key * PITS;
+        for (int i = 0; i < PITS; i++) {
+            pits[i] += SOW_ADD[add + i];
+        }
+
+        int captured = capture(pits, side, SOW_LAST[key], undo);
+        if (undo != null) {
+            undo.sownMask |= SOW_MASK[key];
+            undo.scoreDelta = captured;
+        }
+        return captured;
+    }
+
+    // Seeds the move would capture, worked out from the sowing tables without touching the board.
+    public static int captureFor(byte[] pits, int side, int move) {
+        int pit = side * PITS_PER_SIDE + move;
+        int seeds = pits[pit];
+        if (seeds == 0) return 0;
+        int key = pit * (MAX_SEEDS + 1) + seeds;
+        int last = SOW_LAST[key];
+        int opponentStart = (1 - side) * PITS_PER_SIDE;
+        if (last < opponentStart || last >= opponentStart + PITS_PER_SIDE) return 0;
+        int add = key * PITS;
+        int captured = 0;
+        for (int i = last; i >= opponentStart; i--) {
+            int after = pits[i] + SOW_ADD[add + i];
+            if (after != 1 && after != 2) break;
+            captured += after;
+        }
+        return captured;
+    }
+
+    // Reverses play(); scores and side to move belong to the caller.
+    public static void unplay(byte[] pits, MoveUndo undo) {
+        System.arraycopy(undo.before, 0, pits, 0, PITS);
+    }
+
+    // The last seed has to land in the opponent's row; the capture then walks back while pits hold one or two.
+    private static int capture(byte[] pits, int side, int lastPit, MoveUndo undo) {
+        int opponentStart = (1 - side) * PITS_PER_SIDE;
+        if (lastPit < opponentStart || lastPit >= opponentStart + PITS_PER_SIDE) {
+            return 0;
+        }
+        int captured = 0;
+        int pitIndex = lastPit;
+        while (pitIndex >= opponentStart && (pits[pitIndex] == 1 || pits[pitIndex] == 2)) {
+            captured += pits[pitIndex];
+            pits[pitIndex] = 0;
+            if (undo != null) undo.capturedMask |= 1 << pitIndex;
+            pitIndex--;
+        }
+        return captured;
+    }
+}
@@ -0,0 +1,24 @@
+package ayo;
+
+// Lane-at-a-time fallback through the shared rules kernel, used when the Vector API is unavailable.
+final class ScalarBatchKernel implements BatchKernel {
+    private final byte[] scratch = new byte[Rules.PITS];
+
+    @Override
+    public void play(BoardBatch batch, byte[] moves, int from, int to) {
+        for (int lane = from; lane < to; lane++) {
+            int move = moves[lane];
+            if (move < 0) continue;
+            for (int pit = 0; pit < Rules.PITS; pit++) {
+                scratch[pit] = batch.pits[pit][lane];
+            }
+            int side = batch.side[lane];
+            int captured = Rules.play(scratch, side, move, null);
+            for (int pit = 0; pit < Rules.PITS; pit++) {
+                batch.pits[pit][lane] = scratch[pit];
+            }
+            batch.scores[side][lane] += captured;
+            batch.side[lane] = (byte) (1 - side);
+        }
+    }
+}
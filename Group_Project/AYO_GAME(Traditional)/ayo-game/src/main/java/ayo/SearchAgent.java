@@ -0,0 +1,45 @@
+package ayo;
+
+public class SearchAgent implements Agent {
+    private final AiSearch search;
+    private final SearchLimits limits;
+    private final GameState state = new GameState();
+    private OpeningBook openingBook;
+    private SearchMetrics metrics;
+    private SearchResult lastResult;
+
+    public SearchAgent(AiSearch search, SearchLimits limits) {
+        this.search = search;
+        this.limits = limits;
+    }
+
+    public void setOpeningBook(OpeningBook openingBook) {
+        this.openingBook = openingBook;
+    }
+
+    public void setMetrics(SearchMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public int chooseMove(AyoEngine engine) {
+        engine.copyTo(state);
+        if (openingBook != null) {
+            int move = openingBook.lookupMove(state);
+            if (move != OpeningBook.NO_MOVE && state.isLegal(move)) {
+                lastResult = null;
+                return move;
+            }
+        }
+        lastResult = search.search(state, limits);
+        if (metrics != null) {
+            metrics.record(lastResult.getStats());
+        }
+        return lastResult.getBestMove();
+    }
+
+    // Null when the last move came from the opening book rather than a search.
+    public SearchResult getLastResult() {
+        return lastResult;
+    }
+}
@@ -0,0 +1,241 @@
+package ayo;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class SearchEngine {
+    public static final int MAX_PLY = 64;
+    public static final int WIN_SCORE = 1000;
+    public static final int INFINITY = 10000;
+
+    private static final int MIN_TABLE_DEPTH = 2;
+
+    // Undo records are allocated once per ply; the search reverts moves in place instead of copying boards.
+    private final MoveUndo[] undoStack = new MoveUndo[MAX_PLY + 1];
+    private final int[][] pvTable = new int[MAX_PLY + 1][MAX_PLY + 1];
+    private final int[] pvLength = new int[MAX_PLY + 1];
+    private final TranspositionTable table;
+    private final int workerId;
+    private final AtomicBoolean stopSignal;
+    private EndgameTablebase tablebase;
+    private Evaluation evaluation = Evaluation.DEFAULT;
+    private GameState state;
+    private long nodes;
+    private long tableProbes;
+    private long tableHits;
+    private long tableCutoffs;
+    private long tablebaseHits;
+    private final long[] iterationNanos = new long[MAX_PLY];
+    private final long[] iterationNodes = new long[MAX_PLY];
+    private long maxNodes;
+    private long deadline;
+    private boolean checkLimits;
+    private boolean stopped;
+
+    public SearchEngine() {
+        this(new TranspositionTable());
+    }
+
+    public SearchEngine(TranspositionTable table) {
+        this(table, 0, new AtomicBoolean());
+    }
+
+    // Helper engines in a parallel search share the table and stop signal, and vary depth and move order by id.
+    SearchEngine(TranspositionTable table, int workerId, AtomicBoolean stopSignal) {
+        this.table = table;
+        this.workerId = workerId;
+        this.stopSignal = stopSignal;
+        for (int i = 0; i < undoStack.length; i++) {
+            undoStack[i] = new MoveUndo();
+        }
+    }
+
+    public void setTablebase(EndgameTablebase tablebase) {
+        this.tablebase = tablebase;
+    }
+
+    public void setEvaluation(Evaluation evaluation) {
+        this.evaluation = evaluation;
+    }
+
+    public SearchResult search(GameState root, int depth) {
+        return search(root, SearchLimits.depth(depth));
+    }
+
+    // Deepens one ply at a time and returns the result of the last iteration that finished inside the budget.
+    public SearchResult search(GameState root, SearchLimits limits) {
+        EngineEvents.SearchEvent event = new EngineEvents.SearchEvent();
+        event.begin();
+        table.newSearch();
+        SearchResult result = iterate(root, limits);
+        EngineEvents.commitSearch(event, "alpha-beta", 1, result);
+        return result;
+    }
+
+    SearchResult iterate(GameState root, SearchLimits limits) {
+        state = root;
+        nodes = 0;
+        tableProbes = 0;
+        tableHits = 0;
+        tableCutoffs = 0;
+        tablebaseHits = 0;
+        long start = System.nanoTime();
+        stopped = false;
+        checkLimits = workerId != 0;
+        maxNodes = limits.getMaxNodes();
+        deadline = limits.getTimeMillis() > 0
+                ? System.nanoTime() + limits.getTimeMillis() * 1_000_000L
+                : Long.MAX_VALUE;
+
+        int completed = 0;
+        int[] pv = null;
+        int score = 0;
+        long completedNodes = 0;
+        for (int depth = 1 + (workerId & 1); depth <= limits.getMaxDepth(); depth++) {
+            EngineEvents.SearchIterationEvent event = new EngineEvents.SearchIterationEvent();
+            event.begin();
+            long iterationStart = System.nanoTime();
+            long nodesBefore = nodes;
+            int value = negamax(0, depth, -INFINITY, INFINITY);
+            if (stopped) break;
+            if (event.shouldCommit()) {
+                event.worker = workerId;
+                event.depth = depth;
+                event.nodes = nodes - nodesBefore;
+                event.score = value;
+                event.commit();
+            }
+
+            iterationNanos[completed] = System.nanoTime() - iterationStart;
+            iterationNodes[completed] = nodes - nodesBefore;
+            completed++;
+            pv = new int[pvLength[0]];
+            System.arraycopy(pvTable[0], 0, pv, 0, pv.length);
+            score = value;
+            completedNodes = nodes;
+
+            // The first iteration always completes so there is a move to return.
+            checkLimits = true;
+            if (pv.length == 0 || Math.abs(score) >= WIN_SCORE - MAX_PLY || limitReached()) break;
+        }
+        if (pv == null) {
+            return null;
+        }
+
+        int depth = completed + (workerId & 1);
+        SearchStats stats = new SearchStats(nodes, depth, System.nanoTime() - start, tableProbes, tableHits,
+                tableCutoffs, tablebaseHits, Arrays.copyOf(iterationNanos, completed),
+                Arrays.copyOf(iterationNodes, completed));
+        return new SearchResult(pv.length > 0 ? pv[0] : -1, score, depth, pv, completedNodes, stats);
+    }
+
+    private boolean limitReached() {
+        return stopSignal.get() || (maxNodes > 0 && nodes >= maxNodes) || System.nanoTime() >= deadline;
+    }
+
+    private int negamax(int ply, int depth, int alpha, int beta) {
+        nodes++;
+        if (checkLimits && (nodes & 1023) == 0 && limitReached()) {
+            stopped = true;
+        }
+        if (stopped) {
+            return 0;
+        }
+        pvLength[ply] = 0;
+        int side = state.getSideToMove();
+        int diff = state.getScore(side) - state.getScore(1 - side);
+
+        if (state.isTerminal()) {
+            return terminalScore(diff, ply);
+        }
+        if (tablebase != null && ply > 0) {
+            int future = tablebase.probe(state);
+            if (future != EndgameTablebase.UNKNOWN) {
+                tablebaseHits++;
+                return terminalScore(diff + future, ply);
+            }
+        }
+        if (depth == 0 || ply == MAX_PLY) {
+            return evaluation.evaluate(state);
+        }
+
+        // Nodes one ply from the horizon are cheaper to search than to hash.
+        boolean useTable = depth >= MIN_TABLE_DEPTH;
+        long key = useTable ? Zobrist.hash(state) : 0L;
+        long entry = 0L;
+        if (useTable) {
+            entry = table.probe(key);
+            tableProbes++;
+        }
+        int hashMove = TranspositionTable.NO_MOVE;
+        if (entry != 0L) {
+            tableHits++;
+            hashMove = TranspositionTable.move(entry);
+            if (ply > 0 && TranspositionTable.depth(entry) >= depth) {
+                int stored = fromTable(TranspositionTable.score(entry), ply);
+                int bound = TranspositionTable.bound(entry);
+                if (bound == TranspositionTable.BOUND_EXACT
+                        || (bound == TranspositionTable.BOUND_LOWER && stored >= beta)
+                        || (bound == TranspositionTable.BOUND_UPPER && stored <= alpha)) {
+                    tableCutoffs++;
+                    return stored;
+                }
+            }
+        }
+
+        int originalAlpha = alpha;
+        int best = -INFINITY;
+        int bestMove = TranspositionTable.NO_MOVE;
+        MoveUndo undo = undoStack[ply];
+        for (int i = -1; i < GameState.PITS_PER_SIDE; i++) {
+            // The hash move is tried first, then the remaining moves in pit order rotated by the worker id.
+            int move = (i < 0) ? hashMove : (i + workerId) % GameState.PITS_PER_SIDE;
+            if (i >= 0 && move == hashMove) continue;
+            if (!state.isLegal(move)) continue;
+
+            state.makeMove(move, undo);
+            int value = -negamax(ply + 1, depth - 1, -beta, -alpha);
+            state.unmakeMove(undo);
+            if (stopped) return 0;
+
+            if (value > best) {
+                best = value;
+                bestMove = move;
+                pvTable[ply][0] = move;
+                System.arraycopy(pvTable[ply + 1], 0, pvTable[ply], 1, pvLength[ply + 1]);
+                pvLength[ply] = pvLength[ply + 1] + 1;
+            }
+            if (value > alpha) {
+                alpha = value;
+                if (alpha >= beta) break;
+            }
+        }
+
+        int bound = (best >= beta) ? TranspositionTable.BOUND_LOWER
+                : (best > originalAlpha) ? TranspositionTable.BOUND_EXACT
+                : TranspositionTable.BOUND_UPPER;
+        if (useTable) {
+            table.store(key, toTable(best, ply), depth, bound, bestMove);
+        }
+        return best;
+    }
+
+    // Win scores are stored relative to the node so they stay valid when the position is reached at another ply.
+    private static int toTable(int score, int ply) {
+        if (score >= WIN_SCORE - MAX_PLY) return score + ply;
+        if (score <= -WIN_SCORE + MAX_PLY) return score - ply;
+        return score;
+    }
+
+    private static int fromTable(int score, int ply) {
+        if (score >= WIN_SCORE - MAX_PLY) return score - ply;
+        if (score <= -WIN_SCORE + MAX_PLY) return score + ply;
+        return score;
+    }
+
+    private static int terminalScore(int diff, int ply) {
+        if (diff > 0) return WIN_SCORE - ply;
+        if (diff < 0) return -WIN_SCORE + ply;
+        return 0;
+    }
+}
@@ -0,0 +1,50 @@
+package ayo;
+
+public class SearchLimits {
+    private final int maxDepth;
+    private final long timeMillis;
+    private final long maxNodes;
+
+    public SearchLimits(int maxDepth, long timeMillis, long maxNodes) {
+        if (maxDepth < 1 || maxDepth > SearchEngine.MAX_PLY) {
+            throw new IllegalArgumentException("Search depth must be between 1 and " + SearchEngine.MAX_PLY + ": " + maxDepth);
+        }
+        if (timeMillis < 0 || maxNodes < 0) {
+            throw new IllegalArgumentException("Search budgets must not be negative");
+        }
+        this.maxDepth = maxDepth;
+        this.timeMillis = timeMillis;
+        this.maxNodes = maxNodes;
+    }
+
+    public static SearchLimits depth(int depth) {
+        return new SearchLimits(depth, 0, 0);
+    }
+
+    public static SearchLimits time(long millis) {
+        return new SearchLimits(SearchEngine.MAX_PLY, millis, 0);
+    }
+
+    public static SearchLimits nodes(long nodes) {
+        return new SearchLimits(SearchEngine.MAX_PLY, 0, nodes);
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    // Zero means no time limit.
+    public long getTimeMillis() {
+        return timeMillis;
+    }
+
+    // Zero means no node limit.
+    public long getMaxNodes() {
+        return maxNodes;
+    }
+
+    @Override
+    public String toString() {
+        return "SearchLimits{" + "maxDepth=" + maxDepth + ", timeMillis=" + timeMillis + ", maxNodes=" + maxNodes + '}';
+    }
+}
@@ -0,0 +1,107 @@
+package ayo;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+// Collects the SearchStats of every move an agent makes. The last move is exposed through getters and JMX,
+// and each move is logged as one line on the "ayo.search" logger at FINE.
+public class SearchMetrics implements SearchMetricsMBean {
+    private static final Logger LOG = Logger.getLogger("ayo.search");
+
+    private final String name;
+    private final LongAdder moves = new LongAdder();
+    private final LongAdder totalNodes = new LongAdder();
+    private volatile SearchStats last = SearchStats.EMPTY;
+
+    public SearchMetrics(String name) {
+        this.name = name;
+    }
+
+    public void record(SearchStats stats) {
+        last = stats;
+        moves.increment();
+        totalNodes.add(stats.getNodes());
+        if (LOG.isLoggable(Level.FINE)) {
+            LOG.fine(name + " move " + moves.sum() + ": " + stats.toLogLine());
+        }
+    }
+
+    public ObjectName register() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName objectName = new ObjectName("ayo:type=SearchMetrics,name=" + ObjectName.quote(name));
+        if (server.isRegistered(objectName)) {
+            server.unregisterMBean(objectName);
+        }
+        server.registerMBean(this, objectName);
+        return objectName;
+    }
+
+    public SearchStats getLast() {
+        return last;
+    }
+
+    @Override
+    public long getMoves() {
+        return moves.sum();
+    }
+
+    @Override
+    public long getTotalNodes() {
+        return totalNodes.sum();
+    }
+
+    @Override
+    public long getLastNodes() {
+        return last.getNodes();
+    }
+
+    @Override
+    public long getLastNodesPerSecond() {
+        return last.getNodesPerSecond();
+    }
+
+    @Override
+    public int getLastDepth() {
+        return last.getDepth();
+    }
+
+    @Override
+    public long getLastMillis() {
+        return last.getElapsedNanos() / 1_000_000;
+    }
+
+    @Override
+    public long getLastTableProbes() {
+        return last.getTableProbes();
+    }
+
+    @Override
+    public long getLastTableHits() {
+        return last.getTableHits();
+    }
+
+    @Override
+    public long getLastTableCutoffs() {
+        return last.getTableCutoffs();
+    }
+
+    @Override
+    public double getLastTableHitRate() {
+        return last.getTableHitRate();
+    }
+
+    @Override
+    public double getLastBranchingFactor() {
+        return last.getEffectiveBranchingFactor();
+    }
+
+    @Override
+    public String getLastLogLine() {
+        return last.toLogLine();
+    }
+}
@@ -0,0 +1,27 @@
+package ayo;
+
+public interface SearchMetricsMBean {
+    long getMoves();
+
+    long getTotalNodes();
+
+    long getLastNodes();
+
+    long getLastNodesPerSecond();
+
+    int getLastDepth();
+
+    long getLastMillis();
+
+    long getLastTableProbes();
+
+    long getLastTableHits();
+
+    long getLastTableCutoffs();
+
+    double getLastTableHitRate();
+
+    double getLastBranchingFactor();
+
+    String getLastLogLine();
+}
@@ -0,0 +1,51 @@
+package ayo;
+
+import java.util.Arrays;
+
+public class SearchResult {
+    private final int bestMove;
+    private final int score;
+    private final int depth;
+    private final int[] principalVariation;
+    private final long nodes;
+    private final SearchStats stats;
+
+    public SearchResult(int bestMove, int score, int depth, int[] principalVariation, long nodes, SearchStats stats) {
+        this.bestMove = bestMove;
+        this.score = score;
+        this.depth = depth;
+        this.principalVariation = principalVariation;
+        this.nodes = nodes;
+        this.stats = stats;
+    }
+
+    public int getBestMove() {
+        return bestMove;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public int[] getPrincipalVariation() {
+        return principalVariation.clone();
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public SearchStats getStats() {
+        return stats;
+    }
+
+    @Override
+    public String toString() {
+        return "SearchResult{" + "bestMove=" + bestMove + ", score=" + score + ", depth=" + depth
+                + ", pv=" + Arrays.toString(principalVariation) + ", nodes=" + nodes + '}';
+    }
+}
@@ -0,0 +1,99 @@
+package ayo;
+
+import java.util.Arrays;
+
+// What one search did: node and table counters plus the time and nodes spent on each completed iteration.
+public class SearchStats {
+    public static final SearchStats EMPTY = new SearchStats(0, 0, 0, 0, 0, 0, 0, new long[0], new long[0]);
+
+    private final long nodes;
+    private final int depth;
+    private final long elapsedNanos;
+    private final long tableProbes;
+    private final long tableHits;
+    private final long tableCutoffs;
+    private final long tablebaseHits;
+    private final long[] iterationNanos;
+    private final long[] iterationNodes;
+
+    public SearchStats(long nodes, int depth, long elapsedNanos, long tableProbes, long tableHits,
+                       long tableCutoffs, long tablebaseHits, long[] iterationNanos, long[] iterationNodes) {
+        this.nodes = nodes;
+        this.depth = depth;
+        this.elapsedNanos = elapsedNanos;
+        this.tableProbes = tableProbes;
+        this.tableHits = tableHits;
+        this.tableCutoffs = tableCutoffs;
+        this.tablebaseHits = tablebaseHits;
+        this.iterationNanos = iterationNanos;
+        this.iterationNodes = iterationNodes;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getNodesPerSecond() {
+        return elapsedNanos == 0 ? 0 : (long) (nodes * 1e9 / elapsedNanos);
+    }
+
+    public long getTableProbes() {
+        return tableProbes;
+    }
+
+    public long getTableHits() {
+        return tableHits;
+    }
+
+    public long getTableCutoffs() {
+        return tableCutoffs;
+    }
+
+    public double getTableHitRate() {
+        return tableProbes == 0 ? 0 : (double) tableHits / tableProbes;
+    }
+
+    public long getTablebaseHits() {
+        return tablebaseHits;
+    }
+
+    // Growth in nodes from the second-to-last to the last completed iteration.
+    public double getEffectiveBranchingFactor() {
+        int n = iterationNodes.length;
+        if (n < 2 || iterationNodes[n - 2] == 0) return 0;
+        return (double) iterationNodes[n - 1] / iterationNodes[n - 2];
+    }
+
+    // Entry i is the iteration that ended at depth (depth - length + 1 + i).
+    public long[] getIterationNanos() {
+        return iterationNanos.clone();
+    }
+
+    public long[] getIterationNodes() {
+        return iterationNodes.clone();
+    }
+
+    public String toLogLine() {
+        StringBuilder millis = new StringBuilder();
+        for (long nanos : iterationNanos) {
+            if (millis.length() > 0) millis.append(',');
+            millis.append(nanos / 1_000_000);
+        }
+        return String.format("depth=%d nodes=%d nps=%d time=%dms tt=%d/%d(%.1f%%) cutoffs=%d tb=%d ebf=%.2f iterMs=[%s]",
+                depth, nodes, getNodesPerSecond(), elapsedNanos / 1_000_000, tableHits, tableProbes,
+                100 * getTableHitRate(), tableCutoffs, tablebaseHits, getEffectiveBranchingFactor(), millis);
+    }
+
+    @Override
+    public String toString() {
+        return "SearchStats{" + toLogLine() + ", iterationNodes=" + Arrays.toString(iterationNodes) + '}';
+    }
+}
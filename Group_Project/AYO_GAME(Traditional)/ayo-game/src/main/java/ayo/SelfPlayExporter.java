@@ -0,0 +1,156 @@
+package ayo;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// Plays the engine against itself and exports sampled positions as training data: each position is labelled
+// with the search score the mover saw and, once the game ends, the outcome for the side to move.
+public class SelfPlayExporter {
+    private final Supplier<SearchAgent> agents;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private int openingPlies = Tournament.DEFAULT_OPENING_PLIES;
+    private int maxPlies = Tournament.DEFAULT_MAX_PLIES;
+    private double sampleRate = 1.0;
+    private long seed = new SplittableRandom().nextLong();
+
+    // Each worker calls the supplier once and plays both sides with that agent.
+    public SelfPlayExporter(Supplier<SearchAgent> agents) {
+        this.agents = agents;
+    }
+
+    public SelfPlayExporter setThreads(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Exporter needs at least one thread: " + threads);
+        }
+        this.threads = threads;
+        return this;
+    }
+
+    public SelfPlayExporter setOpeningPlies(int openingPlies) {
+        this.openingPlies = openingPlies;
+        return this;
+    }
+
+    public SelfPlayExporter setMaxPlies(int maxPlies) {
+        if (maxPlies <= 0) {
+            throw new IllegalArgumentException("Self-play games need a ply limit: " + maxPlies);
+        }
+        this.maxPlies = maxPlies;
+        return this;
+    }
+
+    // Fraction of the searched positions, after the random opening, that are exported.
+    public SelfPlayExporter setSampleRate(double sampleRate) {
+        if (!(sampleRate > 0 && sampleRate <= 1)) {
+            throw new IllegalArgumentException("Sample rate must be in (0, 1]: " + sampleRate);
+        }
+        this.sampleRate = sampleRate;
+        return this;
+    }
+
+    public SelfPlayExporter setSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    // Returns the number of positions exported. The writer is left open for the caller to close.
+    public long run(long games, TrainingDataWriter writer) {
+        AtomicLong nextGame = new AtomicLong();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Long>> futures = new ArrayList<>(threads);
+            for (int i = 0; i < threads; i++) {
+                futures.add(pool.submit(() -> playGames(nextGame, games, writer)));
+            }
+            long positions = 0;
+            for (Future<Long> future : futures) {
+                positions += future.get();
+            }
+            return positions;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Self-play export interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Self-play worker failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private long playGames(AtomicLong nextGame, long games, TrainingDataWriter writer) throws IOException {
+        SearchAgent agent = agents.get();
+        AyoEngine engine = new AyoEngine(maxPlies);
+        GameState[] sampled = new GameState[maxPlies];
+        int[] scores = new int[maxPlies];
+        for (int i = 0; i < maxPlies; i++) {
+            sampled[i] = new GameState();
+        }
+        long positions = 0;
+
+        try (TrainingDataWriter.Buffer buffer = writer.newBuffer()) {
+            for (long game = nextGame.getAndIncrement(); game < games; game = nextGame.getAndIncrement()) {
+                SplittableRandom random = new SplittableRandom(seed + game * 0x9E3779B97F4A7C15L);
+                engine.reset();
+                Tournament.playOpening(engine, random, openingPlies, null);
+
+                int count = 0;
+                while (!engine.isGameOver()) {
+                    int move = agent.chooseMove(engine);
+                    // Book moves carry no search score of their own, so those positions are not sampled.
+                    SearchResult searched = agent.getLastResult();
+                    if (random.nextDouble() < sampleRate && searched != null) {
+                        engine.copyTo(sampled[count]);
+                        scores[count] = searched.getScore();
+                        count++;
+                    }
+                    engine.applyMove(move);
+                }
+
+                GameResult result = engine.getResult();
+                for (int i = 0; i < count; i++) {
+                    buffer.add(sampled[i], outcomeFor(result, sampled[i].getSideToMove()), scores[i]);
+                }
+                positions += count;
+            }
+        }
+        return positions;
+    }
+
+    private static int outcomeFor(GameResult result, int side) {
+        if (result == GameResult.DRAW) return 0;
+        return (result == GameResult.PLAYER_A_WINS) == (side == 0) ? 1 : -1;
+    }
+
+    // Usage: SelfPlayExporter <games> <output file> [nodesPerMove]
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.out.println("Usage: SelfPlayExporter <games> <output file> [nodesPerMove]");
+            return;
+        }
+        long games = Long.parseLong(args[0]);
+        SearchLimits limits = SearchLimits.nodes(args.length > 2 ? Long.parseLong(args[2]) : 10_000);
+        SelfPlayExporter exporter = new SelfPlayExporter(() -> new SearchAgent(AiStrategy.MINIMAX.create(1), limits))
+                .setThreads(Integer.getInteger("ayo.export.threads", Runtime.getRuntime().availableProcessors()))
+                .setSampleRate(Double.parseDouble(System.getProperty("ayo.export.sample", "1.0")));
+
+        long start = System.nanoTime();
+        TrainingDataWriter writer = new TrainingDataWriter(Paths.get(args[1]));
+        long positions;
+        try {
+            positions = exporter.run(games, writer);
+        } finally {
+            writer.close();
+        }
+        System.out.printf("Exported %d positions from %d games in %.1f s (%d bytes)%n",
+                positions, games, (System.nanoTime() - start) / 1e9, writer.getByteCount());
+    }
+}
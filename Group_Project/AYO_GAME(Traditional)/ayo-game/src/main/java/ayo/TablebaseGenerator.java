@@ -0,0 +1,286 @@
+package ayo;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+// Solves every position with up to maxSeeds seeds on the board, one seed-count layer at a time from the
+// empty board up. A capture always leads into a smaller, already solved layer, so within a layer only the
+// non-capturing moves are unknown; those are resolved by repeating the one-move backup over the layer until
+// no value changes. Positions that still change after MAX_ROUNDS rounds are cycles with no forced outcome and are
+// stored as UNKNOWN so the search falls back to searching them, and so is every position with a move into an
+// UNKNOWN position: its backed-up value would rest on a guess, so it is not stored as exact either.
+//
+// Each round reads only the previous round's values and writes each position from exactly one task, so the
+// layer is split freely across the pool and the result is byte-identical to a single-threaded run. Finished
+// layers can be checkpointed to a directory, and a restarted run picks up after the last complete layer.
+public class TablebaseGenerator {
+    public static final int MAX_ROUNDS = 512;
+
+    private static final int TASK_SIZE = 4096;
+    private static final int CHECKPOINT_HEADER_BYTES = 12;
+
+    private final int maxSeeds;
+    private final long[] layerOffsets;
+    private final byte[] values;
+    private final boolean[] unknown;
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+    private Path checkpointDirectory;
+    private int maxRounds = MAX_ROUNDS;
+
+    public TablebaseGenerator(int maxSeeds) {
+        if (maxSeeds < 0 || maxSeeds > PitIndexer.MAX_SEEDS) {
+            throw new IllegalArgumentException("Seed limit must be between 0 and " + PitIndexer.MAX_SEEDS + ": " + maxSeeds);
+        }
+        long entries = EndgameTablebase.entryCount(maxSeeds);
+        if (entries > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many positions to solve in memory: " + entries);
+        }
+        this.maxSeeds = maxSeeds;
+        this.layerOffsets = EndgameTablebase.layerOffsets(maxSeeds);
+        this.values = new byte[(int) entries];
+        this.unknown = new boolean[(int) entries];
+    }
+
+    public TablebaseGenerator setPool(ForkJoinPool pool) {
+        this.pool = pool;
+        return this;
+    }
+
+    public TablebaseGenerator setCheckpointDirectory(Path checkpointDirectory) {
+        this.checkpointDirectory = checkpointDirectory;
+        return this;
+    }
+
+    // Tests lower the round limit so that small tables still have positions left UNKNOWN.
+    TablebaseGenerator setMaxRounds(int maxRounds) {
+        if (maxRounds < 1) {
+            throw new IllegalArgumentException("Round limit must be at least one: " + maxRounds);
+        }
+        this.maxRounds = maxRounds;
+        return this;
+    }
+
+    public EndgameTablebase generate() throws IOException {
+        if (checkpointDirectory != null) {
+            Files.createDirectories(checkpointDirectory);
+        }
+        for (int seeds = 0; seeds <= maxSeeds; seeds++) {
+            if (restoreLayer(seeds)) continue;
+            solveLayer(seeds);
+            checkpointLayer(seeds);
+        }
+        int bits = EndgameTablebase.bitsPerEntry(maxSeeds);
+        byte[] data = new byte[(int) EndgameTablebase.dataBytes(maxSeeds)];
+        for (int i = 0; i < values.length; i++) {
+            EndgameTablebase.write(data, i, unknown[i] ? EndgameTablebase.UNKNOWN : values[i], bits);
+        }
+        return new EndgameTablebase(maxSeeds, data);
+    }
+
+    private void solveLayer(int seeds) {
+        int start = (int) layerOffsets[seeds];
+        int size = (int) (layerOffsets[seeds + 1] - layerOffsets[seeds]);
+        byte[] next = new byte[size];
+
+        boolean changed = true;
+        for (int round = 0; changed && round < maxRounds; round++) {
+            changed = pool.invoke(new BackupTask(seeds, start, 0, size, next));
+            System.arraycopy(next, 0, values, start, size);
+        }
+        if (changed) {
+            // One more backup marks the positions that are still moving.
+            pool.invoke(new BackupTask(seeds, start, 0, size, next));
+            for (int i = 0; i < size; i++) {
+                unknown[start + i] = next[i] != values[start + i];
+            }
+        }
+
+        // Spread UNKNOWN to every position that can move into one, until the layer stops changing.
+        boolean[] nextUnknown = new boolean[size];
+        while (pool.invoke(new TaintTask(seeds, start, 0, size, nextUnknown))) {
+            System.arraycopy(nextUnknown, 0, unknown, start, size);
+        }
+    }
+
+    // Backs up positions [from, to) of a layer into next and reports whether any value changed.
+    private class BackupTask extends RecursiveTask<Boolean> {
+        private static final long serialVersionUID = 1L;
+
+        private final int seeds;
+        private final int start;
+        private final int from;
+        private final int to;
+        private final byte[] next;
+
+        BackupTask(int seeds, int start, int from, int to, byte[] next) {
+            this.seeds = seeds;
+            this.start = start;
+            this.from = from;
+            this.to = to;
+            this.next = next;
+        }
+
+        @Override
+        protected Boolean compute() {
+            if (to - from > TASK_SIZE) {
+                int middle = (from + to) >>> 1;
+                BackupTask left = new BackupTask(seeds, start, from, middle, next);
+                left.fork();
+                boolean right = new BackupTask(seeds, start, middle, to, next).compute();
+                return left.join() | right;
+            }
+            GameState state = new GameState();
+            MoveUndo undo = new MoveUndo();
+            int[] pits = new int[GameState.PITS];
+            boolean changed = false;
+            for (int i = from; i < to; i++) {
+                next[i] = (byte) backup(seeds, i, state, undo, pits);
+                changed |= next[i] != values[start + i];
+            }
+            return changed;
+        }
+    }
+
+    // Marks positions [from, to) of a layer that are UNKNOWN or have a move into an UNKNOWN position and
+    // reports whether any mark is new.
+    private class TaintTask extends RecursiveTask<Boolean> {
+        private static final long serialVersionUID = 1L;
+
+        private final int seeds;
+        private final int start;
+        private final int from;
+        private final int to;
+        private final boolean[] next;
+
+        TaintTask(int seeds, int start, int from, int to, boolean[] next) {
+            this.seeds = seeds;
+            this.start = start;
+            this.from = from;
+            this.to = to;
+            this.next = next;
+        }
+
+        @Override
+        protected Boolean compute() {
+            if (to - from > TASK_SIZE) {
+                int middle = (from + to) >>> 1;
+                TaintTask left = new TaintTask(seeds, start, from, middle, next);
+                left.fork();
+                boolean right = new TaintTask(seeds, start, middle, to, next).compute();
+                return left.join() | right;
+            }
+            GameState state = new GameState();
+            MoveUndo undo = new MoveUndo();
+            int[] pits = new int[GameState.PITS];
+            boolean changed = false;
+            for (int i = from; i < to; i++) {
+                next[i] = unknown[start + i] || reachesUnknown(seeds, i, state, undo, pits);
+                changed |= next[i] != unknown[start + i];
+            }
+            return changed;
+        }
+    }
+
+    private boolean reachesUnknown(int seeds, int i, GameState state, MoveUndo undo, int[] pits) {
+        PitIndexer.unrank(i, seeds, pits);
+        state.load(pits, 0, 0, 0);
+        for (int move = 0; move < GameState.PITS_PER_SIDE; move++) {
+            if (!state.isLegal(move)) continue;
+            state.makeMove(move, undo);
+            int childSeeds = seeds - undo.getScoreDelta();
+            boolean childUnknown = unknown[(int) EndgameTablebase.index(layerOffsets, childSeeds,
+                    PitIndexer.rank(state, childSeeds))];
+            state.unmakeMove(undo);
+            if (childUnknown) return true;
+        }
+        return false;
+    }
+
+    private int backup(int seeds, int i, GameState state, MoveUndo undo, int[] pits) {
+        PitIndexer.unrank(i, seeds, pits);
+        state.load(pits, 0, 0, 0);
+        if (state.isTerminal()) {
+            return 0;
+        }
+
+        int best = Integer.MIN_VALUE;
+        for (int move = 0; move < GameState.PITS_PER_SIDE; move++) {
+            if (!state.isLegal(move)) continue;
+            state.makeMove(move, undo);
+            int captured = undo.getScoreDelta();
+            int childSeeds = seeds - captured;
+            int child = (int) EndgameTablebase.index(layerOffsets, childSeeds, PitIndexer.rank(state, childSeeds));
+            best = Math.max(best, captured - values[child]);
+            state.unmakeMove(undo);
+        }
+        return best;
+    }
+
+    // A checkpoint holds the tablebase magic and version and the layer's seed count, then the layer's values
+    // followed by one unknown flag per position. A layer does not depend on maxSeeds, so a larger build can
+    // resume from a smaller one's checkpoints; files from another format or layer are refused.
+    private Path checkpointFile(int seeds) {
+        return checkpointDirectory.resolve("layer-" + seeds + ".bin");
+    }
+
+    private void checkpointLayer(int seeds) throws IOException {
+        if (checkpointDirectory == null) return;
+        int start = (int) layerOffsets[seeds];
+        int size = (int) (layerOffsets[seeds + 1] - layerOffsets[seeds]);
+        byte[] layer = new byte[CHECKPOINT_HEADER_BYTES + 2 * size];
+        ByteBuffer.wrap(layer).putInt(EndgameTablebase.MAGIC).putInt(EndgameTablebase.VERSION).putInt(seeds);
+        System.arraycopy(values, start, layer, CHECKPOINT_HEADER_BYTES, size);
+        for (int i = 0; i < size; i++) {
+            layer[CHECKPOINT_HEADER_BYTES + size + i] = (byte) (unknown[start + i] ? 1 : 0);
+        }
+        Path temporary = checkpointDirectory.resolve("layer-" + seeds + ".tmp");
+        Files.write(temporary, layer);
+        Files.move(temporary, checkpointFile(seeds), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private boolean restoreLayer(int seeds) throws IOException {
+        if (checkpointDirectory == null || !Files.exists(checkpointFile(seeds))) return false;
+        int start = (int) layerOffsets[seeds];
+        int size = (int) (layerOffsets[seeds + 1] - layerOffsets[seeds]);
+        byte[] layer = Files.readAllBytes(checkpointFile(seeds));
+        ByteBuffer header = ByteBuffer.wrap(layer);
+        if (layer.length < CHECKPOINT_HEADER_BYTES || header.getInt() != EndgameTablebase.MAGIC
+                || header.getInt() != EndgameTablebase.VERSION) {
+            throw new IOException("Not a tablebase checkpoint: " + checkpointFile(seeds));
+        }
+        int fileSeeds = header.getInt();
+        if (fileSeeds != seeds) {
+            throw new IOException("Checkpoint " + checkpointFile(seeds) + " holds layer " + fileSeeds + ", expected " + seeds);
+        }
+        if (layer.length != CHECKPOINT_HEADER_BYTES + 2 * size) {
+            throw new IOException("Checkpoint " + checkpointFile(seeds) + " has the wrong size: " + layer.length);
+        }
+        System.arraycopy(layer, CHECKPOINT_HEADER_BYTES, values, start, size);
+        for (int i = 0; i < size; i++) {
+            unknown[start + i] = layer[CHECKPOINT_HEADER_BYTES + size + i] != 0;
+        }
+        return true;
+    }
+
+    // Usage: TablebaseGenerator <maxSeeds> <output file> [checkpoint directory]
+    public static void main(String[] args) throws IOException {
+        int maxSeeds = Integer.parseInt(args[0]);
+        int threads = Integer.getInteger("ayo.tablebase.threads", Runtime.getRuntime().availableProcessors());
+        TablebaseGenerator generator = new TablebaseGenerator(maxSeeds).setPool(new ForkJoinPool(threads));
+        if (args.length > 2) {
+            generator.setCheckpointDirectory(Paths.get(args[2]));
+        }
+
+        long start = System.nanoTime();
+        EndgameTablebase tablebase = generator.generate();
+        tablebase.save(Paths.get(args[1]));
+        System.out.printf("Solved %d positions with up to %d seeds on %d threads in %.1f s%n",
+                EndgameTablebase.entryCount(maxSeeds), maxSeeds, threads, (System.nanoTime() - start) / 1e9);
+    }
+}
@@ -0,0 +1,257 @@
+package ayo;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+// TD(lambda) learning of evaluation weights from self-play. Each position is valued from player A's side as
+// sigmoid(scale * eval), the last position takes the game's result (1, 0.5 or 0), and every position is
+// moved towards the lambda-weighted sum of the value changes that follow it.
+//
+// Workers play with a snapshot of the shared weights and add their updates into a private vector; every
+// mergeEvery games a worker folds that vector into the shared weights with a compare-and-set, so no worker
+// ever waits on a lock. Weights are checkpointed atomically so a stopped run can resume from the file.
+public class TdLearner {
+    public static final int DEFAULT_MERGE_EVERY = 8;
+    public static final long DEFAULT_CHECKPOINT_EVERY = 1000;
+
+    private final AtomicReference<double[]> weights;
+    private final AtomicLong gamesPlayed = new AtomicLong();
+    private final AtomicBoolean checkpointing = new AtomicBoolean();
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private SearchLimits limits = SearchLimits.nodes(2000);
+    private double lambda = 0.7;
+    private double learningRate = 0.01;
+    private double scale = 0.25;
+    private int mergeEvery = DEFAULT_MERGE_EVERY;
+    private int openingPlies = Tournament.DEFAULT_OPENING_PLIES;
+    private int maxPlies = Tournament.DEFAULT_MAX_PLIES;
+    private long seed = new SplittableRandom().nextLong();
+    private Path checkpoint;
+    private long checkpointEvery = DEFAULT_CHECKPOINT_EVERY;
+
+    public TdLearner(Evaluation start) {
+        weights = new AtomicReference<>(start.getWeights());
+    }
+
+    public TdLearner setThreads(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Learner needs at least one thread: " + threads);
+        }
+        this.threads = threads;
+        return this;
+    }
+
+    public TdLearner setLimits(SearchLimits limits) {
+        this.limits = limits;
+        return this;
+    }
+
+    public TdLearner setLambda(double lambda) {
+        if (lambda < 0 || lambda > 1) {
+            throw new IllegalArgumentException("Lambda must be in [0, 1]: " + lambda);
+        }
+        this.lambda = lambda;
+        return this;
+    }
+
+    public TdLearner setLearningRate(double learningRate) {
+        this.learningRate = learningRate;
+        return this;
+    }
+
+    // Logistic scale per seed of evaluation; the Texel tuner's fitted scale is a good choice.
+    public TdLearner setScale(double scale) {
+        this.scale = scale;
+        return this;
+    }
+
+    public TdLearner setMergeEvery(int mergeEvery) {
+        if (mergeEvery < 1) {
+            throw new IllegalArgumentException("Merge interval must be at least one game: " + mergeEvery);
+        }
+        this.mergeEvery = mergeEvery;
+        return this;
+    }
+
+    public TdLearner setOpeningPlies(int openingPlies) {
+        this.openingPlies = openingPlies;
+        return this;
+    }
+
+    public TdLearner setSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    public TdLearner setCheckpoint(Path checkpoint, long everyGames) {
+        if (everyGames < 1) {
+            throw new IllegalArgumentException("Checkpoint interval must be at least one game: " + everyGames);
+        }
+        this.checkpoint = checkpoint;
+        this.checkpointEvery = everyGames;
+        return this;
+    }
+
+    public Evaluation getEvaluation() {
+        return new Evaluation(weights.get());
+    }
+
+    public long getGamesPlayed() {
+        return gamesPlayed.get();
+    }
+
+    // Plays the given number of games and returns the learned weights, checkpointing them at the end.
+    public Evaluation run(long games) throws IOException {
+        AtomicLong nextGame = new AtomicLong();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Void>> futures = new ArrayList<>(threads);
+            for (int i = 0; i < threads; i++) {
+                futures.add(pool.submit(() -> {
+                    playGames(nextGame, games);
+                    return null;
+                }));
+            }
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("TD learning interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("TD worker failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+        if (checkpoint != null) {
+            saveCheckpoint();
+        }
+        return getEvaluation();
+    }
+
+    private void playGames(AtomicLong nextGame, long games) throws IOException {
+        AiSearch search = AiStrategy.MINIMAX.create(1);
+        SearchAgent agent = new SearchAgent(search, limits);
+        AyoEngine engine = new AyoEngine(maxPlies);
+        GameState state = new GameState();
+        double[][] features = new double[maxPlies + 1][Evaluation.FEATURES];
+        double[] values = new double[maxPlies + 1];
+        double[] delta = new double[Evaluation.FEATURES];
+        int sinceMerge = 0;
+
+        try {
+            for (long game = nextGame.getAndIncrement(); game < games; game = nextGame.getAndIncrement()) {
+                double[] snapshot = weights.get();
+                search.setEvaluation(new Evaluation(snapshot));
+                engine.reset();
+                Tournament.playOpening(engine, new SplittableRandom(seed + game * 0x9E3779B97F4A7C15L), openingPlies, null);
+
+                int count = 0;
+                while (!engine.isGameOver()) {
+                    engine.copyTo(state);
+                    values[count] = value(state, snapshot, features[count]);
+                    count++;
+                    engine.applyMove(agent.chooseMove(engine));
+                }
+                GameResult result = engine.getResult();
+                values[count] = result == GameResult.PLAYER_A_WINS ? 1 : result == GameResult.PLAYER_B_WINS ? 0 : 0.5;
+
+                // Walking backwards, trace is the lambda-discounted sum of the value changes after each position.
+                double trace = 0;
+                for (int t = count - 1; t >= 0; t--) {
+                    trace = (values[t + 1] - values[t]) + lambda * trace;
+                    double slope = learningRate * trace * scale * values[t] * (1 - values[t]);
+                    for (int i = 0; i < Evaluation.FEATURES; i++) {
+                        delta[i] += slope * features[t][i];
+                    }
+                }
+
+                if (++sinceMerge == mergeEvery) {
+                    merge(delta);
+                    sinceMerge = 0;
+                }
+                long played = gamesPlayed.incrementAndGet();
+                if (checkpoint != null && played % checkpointEvery == 0) {
+                    saveCheckpoint();
+                }
+            }
+            merge(delta);
+        } finally {
+            search.shutdown();
+        }
+    }
+
+    // Player A's winning chance under the given weights; features receives the features from A's side.
+    private double value(GameState state, double[] current, double[] features) {
+        Evaluation.features(state, features);
+        double sign = state.getSideToMove() == 0 ? 1 : -1;
+        double eval = 0;
+        for (int i = 0; i < Evaluation.FEATURES; i++) {
+            features[i] *= sign;
+            eval += current[i] * features[i];
+        }
+        return 1 / (1 + Math.exp(-scale * eval));
+    }
+
+    private void merge(double[] delta) {
+        double[] current;
+        double[] next;
+        do {
+            current = weights.get();
+            next = current.clone();
+            for (int i = 0; i < next.length; i++) {
+                next[i] += delta[i];
+            }
+        } while (!weights.compareAndSet(current, next));
+        Arrays.fill(delta, 0);
+    }
+
+    // Written to a temporary file and moved into place, so a crash never leaves a half-written checkpoint.
+    // A worker that finds another one already saving skips its turn rather than wait.
+    private void saveCheckpoint() throws IOException {
+        if (!checkpointing.compareAndSet(false, true)) return;
+        try {
+            Path temporary = checkpoint.resolveSibling(checkpoint.getFileName() + ".tmp");
+            getEvaluation().save(temporary);
+            Files.move(temporary, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            checkpointing.set(false);
+        }
+    }
+
+    // Usage: TdLearner <games> <checkpoint file> [nodesPerMove]; resumes from the checkpoint if it exists.
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.out.println("Usage: TdLearner <games> <checkpoint file> [nodesPerMove]");
+            return;
+        }
+        long games = Long.parseLong(args[0]);
+        Path checkpoint = Paths.get(args[1]);
+        Evaluation start = Files.exists(checkpoint) ? Evaluation.load(checkpoint) : Evaluation.DEFAULT;
+        TdLearner learner = new TdLearner(start)
+                .setThreads(Integer.getInteger("ayo.td.threads", Runtime.getRuntime().availableProcessors()))
+                .setLimits(SearchLimits.nodes(args.length > 2 ? Long.parseLong(args[2]) : 2000))
+                .setLearningRate(Double.parseDouble(System.getProperty("ayo.td.rate", "0.01")))
+                .setLambda(Double.parseDouble(System.getProperty("ayo.td.lambda", "0.7")))
+                .setCheckpoint(checkpoint, Long.getLong("ayo.td.checkpoint", DEFAULT_CHECKPOINT_EVERY));
+
+        long begin = System.nanoTime();
+        System.out.println("Starting from " + start);
+        Evaluation learned = learner.run(games);
+        System.out.printf("Learned %s from %d games in %.1f s%n", learned, games, (System.nanoTime() - begin) / 1e9);
+    }
+}
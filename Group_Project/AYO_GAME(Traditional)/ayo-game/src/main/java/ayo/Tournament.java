@@ -0,0 +1,174 @@
+package ayo;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+public class Tournament {
+    public static final int DEFAULT_OPENING_PLIES = 4;
+    public static final int DEFAULT_MAX_PLIES = 400;
+
+    private final Supplier<Agent> challenger;
+    private final Supplier<Agent> baseline;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private int openingPlies = DEFAULT_OPENING_PLIES;
+    private int maxPlies = DEFAULT_MAX_PLIES;
+    private long seed = new SplittableRandom().nextLong();
+    private GameRecordWriter recorder;
+    private int challengerType = GameRecord.HUMAN;
+    private int baselineType = GameRecord.HUMAN;
+
+    // Each worker calls the suppliers once and reuses its agents and engine for every game it plays.
+    public Tournament(Supplier<Agent> challenger, Supplier<Agent> baseline) {
+        this.challenger = challenger;
+        this.baseline = baseline;
+    }
+
+    public Tournament setThreads(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Tournament needs at least one thread: " + threads);
+        }
+        this.threads = threads;
+        return this;
+    }
+
+    public Tournament setOpeningPlies(int openingPlies) {
+        this.openingPlies = openingPlies;
+        return this;
+    }
+
+    public Tournament setMaxPlies(int maxPlies) {
+        this.maxPlies = maxPlies;
+        return this;
+    }
+
+    public Tournament setSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    // Every finished game, random opening included, is appended to the writer; the caller closes it.
+    public Tournament setRecorder(GameRecordWriter recorder, AiStrategy challengerType, AiStrategy baselineType) {
+        this.recorder = recorder;
+        this.challengerType = GameRecord.playerType(challengerType);
+        this.baselineType = GameRecord.playerType(baselineType);
+        return this;
+    }
+
+    // Games are played in pairs from the same random opening, with the challenger moving first in one of them.
+    public TournamentResult run(long games) {
+        AtomicLong nextGame = new AtomicLong();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        long start = System.nanoTime();
+        try {
+            List<Future<long[]>> futures = new ArrayList<>(threads);
+            for (int i = 0; i < threads; i++) {
+                futures.add(pool.submit(() -> playGames(nextGame, games)));
+            }
+            long[] totals = new long[4];
+            for (Future<long[]> future : futures) {
+                long[] counts = future.get();
+                for (int i = 0; i < totals.length; i++) {
+                    totals[i] += counts[i];
+                }
+            }
+            return new TournamentResult(totals[0], totals[1], totals[2], totals[3], System.nanoTime() - start);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Tournament interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Tournament worker failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    // Returns {wins, draws, losses, plies} from the challenger's point of view.
+    private long[] playGames(AtomicLong nextGame, long games) throws IOException {
+        Agent challengerAgent = challenger.get();
+        Agent baselineAgent = baseline.get();
+        AyoEngine engine = new AyoEngine(maxPlies);
+        long[] counts = new long[4];
+        GameRecord record = recorder == null ? null : new GameRecord();
+
+        for (long game = nextGame.getAndIncrement(); game < games; game = nextGame.getAndIncrement()) {
+            boolean challengerFirst = (game & 1) == 0;
+            long openingSeed = seed + (game >>> 1) * 0x9E3779B97F4A7C15L;
+            if (record != null) {
+                record.reset(challengerFirst ? challengerType : baselineType,
+                        challengerFirst ? baselineType : challengerType, openingSeed);
+            }
+            engine.reset();
+            playOpening(engine, new SplittableRandom(openingSeed), openingPlies, record);
+
+            Match match = challengerFirst
+                    ? new Match(engine, challengerAgent, baselineAgent)
+                    : new Match(engine, baselineAgent, challengerAgent);
+            GameResult result = match.setRecord(record).play();
+            if (record != null) {
+                recorder.append(record);
+            }
+
+            if (result == GameResult.DRAW) {
+                counts[1]++;
+            } else if ((result == GameResult.PLAYER_A_WINS) == challengerFirst) {
+                counts[0]++;
+            } else {
+                counts[2]++;
+            }
+            counts[3] += engine.getPly();
+        }
+        return counts;
+    }
+
+    // Plays uniformly random legal moves; shared with the self-play exporter so both start from the same openings.
+    static void playOpening(AyoEngine engine, SplittableRandom random, int openingPlies, GameRecord record) {
+        for (int ply = 0; ply < openingPlies && !engine.isGameOver(); ply++) {
+            int legal = engine.legalMoves();
+            int pick = random.nextInt(Integer.bitCount(legal));
+            for (int i = 0; i < pick; i++) {
+                legal &= legal - 1;
+            }
+            int move = Integer.numberOfTrailingZeros(legal);
+            engine.applyMove(move);
+            if (record != null) record.addMove(move);
+        }
+    }
+
+    private static Supplier<Agent> agentFor(AiStrategy strategy, SearchLimits limits) {
+        return () -> new SearchAgent(strategy.create(1), limits);
+    }
+
+    // Usage: Tournament <games> <challenger MINIMAX|MCTS> <baseline MINIMAX|MCTS> [nodes or playouts per move]
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.out.println("Usage: Tournament <games> <challenger> <baseline> [nodesPerMove]");
+            return;
+        }
+        long games = Long.parseLong(args[0]);
+        AiStrategy challenger = AiStrategy.valueOf(args[1].toUpperCase());
+        AiStrategy baseline = AiStrategy.valueOf(args[2].toUpperCase());
+        SearchLimits limits = SearchLimits.nodes(args.length > 3 ? Long.parseLong(args[3]) : 10_000);
+
+        Tournament tournament = new Tournament(agentFor(challenger, limits), agentFor(baseline, limits))
+                .setThreads(Integer.getInteger("ayo.tournament.threads", Runtime.getRuntime().availableProcessors()))
+                .setOpeningPlies(Integer.getInteger("ayo.tournament.opening", DEFAULT_OPENING_PLIES));
+        String recordFile = System.getProperty("ayo.tournament.record");
+        GameRecordWriter recorder = recordFile == null ? null : new GameRecordWriter(Paths.get(recordFile));
+        try {
+            tournament.setRecorder(recorder, challenger, baseline);
+            TournamentResult result = tournament.run(games);
+            System.out.println(challenger + " vs " + baseline + ": " + result);
+        } finally {
+            if (recorder != null) recorder.close();
+        }
+    }
+}
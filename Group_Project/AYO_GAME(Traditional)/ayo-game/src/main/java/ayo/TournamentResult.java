@@ -0,0 +1,73 @@
+package ayo;
+
+public class TournamentResult {
+    private final long wins;
+    private final long draws;
+    private final long losses;
+    private final long totalPlies;
+    private final long elapsedNanos;
+
+    public TournamentResult(long wins, long draws, long losses, long totalPlies, long elapsedNanos) {
+        this.wins = wins;
+        this.draws = draws;
+        this.losses = losses;
+        this.totalPlies = totalPlies;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getWins() {
+        return wins;
+    }
+
+    public long getDraws() {
+        return draws;
+    }
+
+    public long getLosses() {
+        return losses;
+    }
+
+    public long getGames() {
+        return wins + draws + losses;
+    }
+
+    public double getAverageGameLength() {
+        return getGames() == 0 ? 0 : (double) totalPlies / getGames();
+    }
+
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : getGames() * 1e9 / elapsedNanos;
+    }
+
+    // Challenger's expected score per game: a win is 1, a draw is 1/2.
+    public double getScore() {
+        return getGames() == 0 ? 0.5 : (wins + 0.5 * draws) / getGames();
+    }
+
+    public double getEloDifference() {
+        return elo(getScore());
+    }
+
+    // Half-width of the 95% interval on the Elo difference, from the per-game score variance.
+    public double getEloMargin() {
+        long games = getGames();
+        if (games < 2) return Double.POSITIVE_INFINITY;
+        double p = getScore();
+        double variance = (wins * (1 - p) * (1 - p) + draws * (0.5 - p) * (0.5 - p) + losses * p * p) / games;
+        double margin = 1.96 * Math.sqrt(variance / games);
+        return (elo(Math.min(p + margin, 1)) - elo(Math.max(p - margin, 0))) / 2;
+    }
+
+    private static double elo(double score) {
+        if (score <= 0) return Double.NEGATIVE_INFINITY;
+        if (score >= 1) return Double.POSITIVE_INFINITY;
+        return -400 * Math.log10(1 / score - 1);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("games=%d W/D/L=%d/%d/%d score=%.3f elo=%+.1f +/- %.1f avgPlies=%.1f games/s=%.1f",
+                getGames(), wins, draws, losses, getScore(), getEloDifference(), getEloMargin(),
+                getAverageGameLength(), getGamesPerSecond());
+    }
+}
@@ -0,0 +1,148 @@
+package ayo;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+// Memory-maps a training data file and indexes its chunks so any thread can inflate any chunk. The file is
+// mapped in windows of up to 1 GB that always end on a chunk boundary, so no chunk straddles two mappings.
+public class TrainingDataReader implements Closeable {
+    private static final long WINDOW_BYTES = 1L << 30;
+
+    private final FileChannel channel;
+    private final List<MappedByteBuffer> windows = new ArrayList<>();
+    private final int[] chunkWindow;
+    private final int[] chunkOffset;
+    private final int[] chunkRows;
+    private final int[] chunkBytes;
+    private final long rowCount;
+    private final int maxChunkRows;
+
+    public TrainingDataReader(Path file) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            ByteBuffer header = ByteBuffer.allocate(TrainingDataWriter.HEADER_BYTES);
+            channel.read(header, 0);
+            header.flip();
+            if (header.remaining() < TrainingDataWriter.HEADER_BYTES || header.getInt() != TrainingDataWriter.MAGIC
+                    || header.getInt() != TrainingDataWriter.VERSION) {
+                throw new IOException("Not a training data file: " + file);
+            }
+
+            List<long[]> chunks = new ArrayList<>();
+            long position = TrainingDataWriter.HEADER_BYTES;
+            while (position < size) {
+                header.clear().limit(PositionChunk.HEADER_BYTES);
+                channel.read(header, position);
+                header.flip();
+                if (header.remaining() < PositionChunk.HEADER_BYTES) {
+                    throw new IOException("Training data file ends inside a chunk header: " + file);
+                }
+                int rows = header.getInt();
+                int compressed = header.getInt();
+                long end = position + PositionChunk.HEADER_BYTES + compressed;
+                if (rows < 0 || compressed < 0 || end > size) {
+                    throw new IOException("Corrupt chunk header at offset " + position + " in " + file);
+                }
+                chunks.add(new long[] {position + PositionChunk.HEADER_BYTES, rows, compressed});
+                position = end;
+            }
+
+            chunkWindow = new int[chunks.size()];
+            chunkOffset = new int[chunks.size()];
+            chunkRows = new int[chunks.size()];
+            chunkBytes = new int[chunks.size()];
+            long rowTotal = 0;
+            int maxRows = 0;
+            long windowStart = -1;
+            long windowEnd = -1;
+            for (int i = 0; i < chunks.size(); i++) {
+                long start = chunks.get(i)[0];
+                long end = start + chunks.get(i)[2];
+                if (windowStart < 0 || end - windowStart > WINDOW_BYTES) {
+                    if (windowStart >= 0) {
+                        windows.add(channel.map(FileChannel.MapMode.READ_ONLY, windowStart, windowEnd - windowStart));
+                    }
+                    windowStart = start;
+                }
+                windowEnd = end;
+                chunkWindow[i] = windows.size();
+                chunkOffset[i] = (int) (start - windowStart);
+                chunkRows[i] = (int) chunks.get(i)[1];
+                chunkBytes[i] = (int) chunks.get(i)[2];
+                rowTotal += chunkRows[i];
+                maxRows = Math.max(maxRows, chunkRows[i]);
+            }
+            if (windowStart >= 0) {
+                windows.add(channel.map(FileChannel.MapMode.READ_ONLY, windowStart, windowEnd - windowStart));
+            }
+            rowCount = rowTotal;
+            maxChunkRows = Math.max(1, maxRows);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public int getChunkCount() {
+        return chunkRows.length;
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    // A chunk large enough for any chunk in this file.
+    public PositionChunk newChunk() {
+        return new PositionChunk(maxChunkRows);
+    }
+
+    // Safe to call from many threads at once, each with its own chunk and inflater.
+    public void read(int chunk, PositionChunk into, Inflater inflater) throws IOException {
+        ByteBuffer window = windows.get(chunkWindow[chunk]).duplicate();
+        window.position(chunkOffset[chunk]);
+        try {
+            into.decode(window, chunkRows[chunk], chunkBytes[chunk], inflater);
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt training data chunk " + chunk, e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    // Usage: TrainingDataReader <file>
+    public static void main(String[] args) throws IOException {
+        long start = System.nanoTime();
+        long[] outcomes = new long[3];
+        try (TrainingDataReader reader = new TrainingDataReader(Paths.get(args[0]))) {
+            PositionChunk chunk = reader.newChunk();
+            Inflater inflater = new Inflater();
+            try {
+                for (int i = 0; i < reader.getChunkCount(); i++) {
+                    reader.read(i, chunk, inflater);
+                    for (int row = 0; row < chunk.size(); row++) {
+                        outcomes[chunk.getOutcome(row) + 1]++;
+                    }
+                }
+            } finally {
+                inflater.end();
+            }
+            System.out.printf("%d positions in %d chunks, win/draw/loss for the side to move=%d/%d/%d, read in %.2f s%n",
+                    reader.getRowCount(), reader.getChunkCount(), outcomes[2], outcomes[1], outcomes[0],
+                    (System.nanoTime() - start) / 1e9);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package ayo;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.Deflater;
+
+// Streams labelled positions into a chunked, compressed, columnar file (see PositionChunk for a chunk's layout).
+// Each producer thread takes its own Buffer. A full buffer is handed to the compression pool and the producer
+// carries on filling its second chunk, so it only waits if compression falls a whole chunk behind; memory is
+// bounded at two chunks per buffer. Chunks land in the file in whatever order they finish.
+//
+// File layout: magic and version as 4-byte ints, then chunks back to back.
+public class TrainingDataWriter implements Closeable {
+    public static final int DEFAULT_CHUNK_ROWS = 1 << 16;
+
+    static final int MAGIC = 0x41594F44;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 8;
+
+    private final FileChannel channel;
+    private final int chunkRows;
+    private final ExecutorService pool;
+    private final AtomicLong rows = new AtomicLong();
+    private final AtomicLong bytes = new AtomicLong(HEADER_BYTES);
+    private volatile IOException failure;
+
+    public TrainingDataWriter(Path file) throws IOException {
+        this(file, DEFAULT_CHUNK_ROWS, Runtime.getRuntime().availableProcessors());
+    }
+
+    public TrainingDataWriter(Path file, int chunkRows, int compressionThreads) throws IOException {
+        if (chunkRows <= 0 || compressionThreads < 1) {
+            throw new IllegalArgumentException("Bad chunk rows " + chunkRows + " or thread count " + compressionThreads);
+        }
+        this.chunkRows = chunkRows;
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).putInt(MAGIC).putInt(VERSION).flip();
+        while (header.hasRemaining()) {
+            channel.write(header);
+        }
+        pool = Executors.newFixedThreadPool(compressionThreads, runnable -> {
+            Thread thread = new Thread(runnable, "ayo-training-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public Buffer newBuffer() {
+        return new Buffer();
+    }
+
+    public long getRowCount() {
+        return rows.get();
+    }
+
+    public long getByteCount() {
+        return bytes.get();
+    }
+
+    // Every buffer must be closed first.
+    @Override
+    public void close() throws IOException {
+        try {
+            pool.shutdown();
+            if (!pool.awaitTermination(1, TimeUnit.MINUTES)) {
+                throw new IOException("Timed out writing training data");
+            }
+            checkFailure();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while closing the training data file");
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void writeChunk(PositionChunk chunk) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            ByteBuffer encoded = chunk.encode(deflater);
+            synchronized (channel) {
+                while (encoded.hasRemaining()) {
+                    channel.write(encoded);
+                }
+            }
+            rows.addAndGet(chunk.size());
+            bytes.addAndGet(encoded.limit());
+        } catch (IOException e) {
+            failure = e;
+        } finally {
+            deflater.end();
+            chunk.clear();
+        }
+    }
+
+    private void checkFailure() throws IOException {
+        if (failure != null) {
+            throw new IOException("Writing training data failed", failure);
+        }
+    }
+
+    // One producer's staging area; not thread-safe, each thread uses its own.
+    public final class Buffer implements Closeable {
+        private PositionChunk filling = new PositionChunk(chunkRows);
+        private PositionChunk spare = new PositionChunk(chunkRows);
+        private Future<?> inFlight;
+
+        private Buffer() {
+        }
+
+        public void add(GameState state, int outcome, int searchScore) throws IOException {
+            filling.add(state, outcome, searchScore);
+            if (filling.isFull()) {
+                flush();
+            }
+        }
+
+        public void flush() throws IOException {
+            if (filling.size() == 0) return;
+            awaitInFlight();
+            PositionChunk full = filling;
+            filling = spare;
+            spare = full;
+            inFlight = pool.submit(() -> writeChunk(full));
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+            awaitInFlight();
+        }
+
+        private void awaitInFlight() throws IOException {
+            checkFailure();
+            if (inFlight == null) return;
+            try {
+                inFlight.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for a training data chunk");
+            } catch (ExecutionException e) {
+                throw new IOException("Compressing training data failed", e.getCause());
+            }
+            inFlight = null;
+            checkFailure();
+        }
+    }
+}
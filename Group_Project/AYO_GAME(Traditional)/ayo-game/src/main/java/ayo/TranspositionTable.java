@@ -0,0 +1,110 @@
+package ayo;
+
+import java.util.Arrays;
+
+public class TranspositionTable {
+    public static final int DEFAULT_SIZE_MB = 16;
+
+    public static final int BOUND_LOWER = 1;
+    public static final int BOUND_UPPER = 2;
+    public static final int BOUND_EXACT = 3;
+    public static final int NO_MOVE = -1;
+
+    private static final int BYTES_PER_ENTRY = 16;
+
+    // Two longs per slot: the Zobrist key xor the data word, then score|depth|bound|move|generation packed
+    // into the data word. Threads read and write without locks; a torn slot fails the xor check and is a miss.
+    private final long[] entries;
+    private final int mask;
+    private volatile int generation;
+
+    public TranspositionTable() {
+        this(DEFAULT_SIZE_MB);
+    }
+
+    public TranspositionTable(int sizeMb) {
+        if (sizeMb < 1) {
+            throw new IllegalArgumentException("Transposition table size must be at least 1 MB: " + sizeMb);
+        }
+        EngineEvents.TableResizeEvent event = new EngineEvents.TableResizeEvent();
+        event.begin();
+        long slots = Long.highestOneBit((long) sizeMb * 1024 * 1024 / BYTES_PER_ENTRY);
+        slots = Math.min(slots, 1L << 29);
+        entries = new long[(int) slots * 2];
+        mask = (int) slots - 1;
+        commitResize(event);
+    }
+
+    public void newSearch() {
+        generation = (generation + 1) & 0xFF;
+    }
+
+    public void clear() {
+        EngineEvents.TableResizeEvent event = new EngineEvents.TableResizeEvent();
+        event.begin();
+        Arrays.fill(entries, 0L);
+        generation = 0;
+        commitResize(event);
+    }
+
+    private void commitResize(EngineEvents.TableResizeEvent event) {
+        if (event.shouldCommit()) {
+            event.slots = capacity();
+            event.sizeMb = (int) ((long) capacity() * BYTES_PER_ENTRY >>> 20);
+            event.commit();
+        }
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    public long probe(long key) {
+        int slot = ((int) key & mask) << 1;
+        long data = entries[slot + 1];
+        if ((entries[slot] ^ data) == key) {
+            return data;
+        }
+        return 0L;
+    }
+
+    public void store(long key, int score, int depth, int bound, int move) {
+        int slot = ((int) key & mask) << 1;
+        long existing = entries[slot + 1];
+        if (existing != 0L && (entries[slot] ^ existing) != key
+                && generation(existing) == generation && depth(existing) > depth) {
+            return;
+        }
+        long data = pack(score, depth, bound, move, generation);
+        entries[slot] = key ^ data;
+        entries[slot + 1] = data;
+    }
+
+    private static long pack(int score, int depth, int bound, int move, int generation) {
+        return (score + 32768L)
+                | ((long) depth << 16)
+                | ((long) bound << 24)
+                | ((long) (move + 1) << 26)
+                | ((long) generation << 32);
+    }
+
+    public static int score(long data) {
+        return (int) (data & 0xFFFF) - 32768;
+    }
+
+    public static int depth(long data) {
+        return (int) (data >>> 16) & 0xFF;
+    }
+
+    public static int bound(long data) {
+        return (int) (data >>> 24) & 0x3;
+    }
+
+    public static int move(long data) {
+        return ((int) (data >>> 26) & 0xF) - 1;
+    }
+
+    private static int generation(long data) {
+        return (int) (data >>> 32) & 0xFF;
+    }
+}
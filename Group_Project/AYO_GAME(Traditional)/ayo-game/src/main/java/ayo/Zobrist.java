@@ -0,0 +1,39 @@
+package ayo;
+
+import java.util.SplittableRandom;
+
+public final class Zobrist {
+    public static final int MAX_SEEDS = Rules.MAX_SEEDS;
+
+    private static final long[][] PIT_KEYS = new long[GameState.PITS][MAX_SEEDS + 1];
+    private static final long[][] SCORE_KEYS = new long[2][MAX_SEEDS + 1];
+
+    static {
+        // Fixed seed so hashes, and anything persisted by them, are stable across runs.
+        SplittableRandom random = new SplittableRandom(0x41796F4F77617265L);
+        for (long[] keys : PIT_KEYS) {
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = random.nextLong();
+            }
+        }
+        for (long[] keys : SCORE_KEYS) {
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = random.nextLong();
+            }
+        }
+    }
+
+    private Zobrist() {
+    }
+
+    // Hashes the canonical form, so a position and its mirror with the other side to move share a key.
+    public static long hash(GameState state) {
+        long hash = 0;
+        for (int pit = 0; pit < GameState.PITS; pit++) {
+            hash ^= PIT_KEYS[pit][state.getCanonicalSeedCount(pit)];
+        }
+        hash ^= SCORE_KEYS[0][state.getCanonicalScore(0)];
+        hash ^= SCORE_KEYS[1][state.getCanonicalScore(1)];
+        return hash;
+    }
+}
@@ -0,0 +1,92 @@
+package ayo;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// The rules kernel written across lanes: every pit row is one vector, so a chunk of boards sows and captures together.
+// Only loaded when jdk.incubator.vector is in the boot layer; lanes past the last full vector go to the scalar kernel.
+final class VectorBatchKernel implements BatchKernel {
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+    private static final int PITS = Rules.PITS;
+
+    private final ScalarBatchKernel tail = new ScalarBatchKernel();
+
+    @Override
+    public void play(BoardBatch batch, byte[] moves, int from, int to) {
+        int lane = from;
+        int bound = from + SPECIES.loopBound(to - from);
+        for (; lane < bound; lane += SPECIES.length()) {
+            playChunk(batch, moves, lane);
+        }
+        tail.play(batch, moves, lane, to);
+    }
+
+    private static void playChunk(BoardBatch batch, byte[] moves, int lane) {
+        byte[][] pits = batch.pits;
+        ByteVector move = ByteVector.fromArray(SPECIES, moves, lane);
+        VectorMask<Byte> active = move.compare(VectorOperators.GE, 0);
+        if (!active.anyTrue()) return;
+        ByteVector side = ByteVector.fromArray(SPECIES, batch.side, lane);
+        ByteVector start = side.mul((byte) Rules.PITS_PER_SIDE);
+        ByteVector origin = start.add(move);
+
+        // Lift the seeds out of each lane's chosen pit.
+        ByteVector seeds = ByteVector.zero(SPECIES);
+        for (int pit = 0; pit < PITS; pit++) {
+            ByteVector row = ByteVector.fromArray(SPECIES, pits[pit], lane);
+            VectorMask<Byte> chosen = origin.compare(VectorOperators.EQ, (byte) pit).and(active);
+            seeds = seeds.blend(row, chosen);
+            row.blend((byte) 0, chosen).intoArray(pits[pit], lane);
+        }
+
+        // A pit at distance d (1-12) past the origin gains one seed per lap that reaches it; at most 48 seeds is four laps.
+        for (int pit = 0; pit < PITS; pit++) {
+            ByteVector distance = ByteVector.broadcast(SPECIES, (byte) pit).sub(origin);
+            distance = distance.add((byte) PITS, distance.compare(VectorOperators.LE, 0));
+            ByteVector row = ByteVector.fromArray(SPECIES, pits[pit], lane);
+            for (int lap = 0; lap < Rules.MAX_SEEDS / PITS; lap++) {
+                VectorMask<Byte> reached = seeds.compare(VectorOperators.GE, distance.add((byte) (lap * PITS))).and(active);
+                row = row.add((byte) 1, reached);
+            }
+            row.intoArray(pits[pit], lane);
+        }
+
+        ByteVector last = origin.add(seeds);
+        for (int lap = 0; lap < Rules.MAX_SEEDS / PITS; lap++) {
+            last = last.sub((byte) PITS, last.compare(VectorOperators.GE, (byte) PITS));
+        }
+
+        // Walk back from the landing pit through the opponent's row while pits hold one or two seeds.
+        ByteVector opponentStart = ByteVector.broadcast(SPECIES, (byte) Rules.PITS_PER_SIDE).sub(start);
+        VectorMask<Byte> walking = active
+                .and(last.compare(VectorOperators.GE, opponentStart))
+                .and(last.compare(VectorOperators.LT, opponentStart.add((byte) Rules.PITS_PER_SIDE)));
+        ByteVector captured = ByteVector.zero(SPECIES);
+        ByteVector current = last;
+        for (int step = 0; step < Rules.PITS_PER_SIDE && walking.anyTrue(); step++) {
+            ByteVector value = ByteVector.zero(SPECIES);
+            for (int pit = 0; pit < PITS; pit++) {
+                value = value.blend(ByteVector.fromArray(SPECIES, pits[pit], lane), current.compare(VectorOperators.EQ, (byte) pit));
+            }
+            VectorMask<Byte> taken = walking.and(value.compare(VectorOperators.EQ, 1).or(value.compare(VectorOperators.EQ, 2)));
+            captured = captured.add(value, taken);
+            for (int pit = 0; pit < PITS; pit++) {
+                VectorMask<Byte> cleared = taken.and(current.compare(VectorOperators.EQ, (byte) pit));
+                if (cleared.anyTrue()) {
+                    ByteVector.fromArray(SPECIES, pits[pit], lane).blend((byte) 0, cleared).intoArray(pits[pit], lane);
+                }
+            }
+            walking = taken.and(current.compare(VectorOperators.GT, opponentStart));
+            current = current.sub((byte) 1);
+        }
+
+        VectorMask<Byte> sideA = side.compare(VectorOperators.EQ, 0);
+        ByteVector.fromArray(SPECIES, batch.scores[0], lane).add(captured, sideA)
+                .intoArray(batch.scores[0], lane);
+        ByteVector.fromArray(SPECIES, batch.scores[1], lane).add(captured, sideA.not())
+                .intoArray(batch.scores[1], lane);
+        side.lanewise(VectorOperators.XOR, (byte) 1, active).intoArray(batch.side, lane);
+    }
+}
@@ -0,0 +1,72 @@
+package ayo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class BoardBatchTest {
+    // Not a multiple of any vector length, so the kernel's tail loop is exercised too.
+    private static final int LANES = 1003;
+
+    @Test
+    void vectorAndScalarKernelsFollowGameState() {
+        BoardBatch vector = new BoardBatch(LANES);
+        BoardBatch scalar = scalarBatch(LANES);
+        assertTrue(vector.isVectorized(), "surefire runs with --add-modules jdk.incubator.vector");
+        assertFalse(scalar.isVectorized());
+
+        GameState[] states = new GameState[LANES];
+        for (int lane = 0; lane < LANES; lane++) {
+            states[lane] = new GameState();
+            vector.load(lane, states[lane]);
+            scalar.load(lane, states[lane]);
+        }
+
+        Random random = new Random(7);
+        MoveUndo undo = new MoveUndo();
+        byte[] moves = new byte[LANES];
+        GameState stored = new GameState();
+        for (int step = 0; step < 300; step++) {
+            for (int lane = 0; lane < LANES; lane++) {
+                int legal = vector.legalMoves(lane);
+                assertEquals(legal, scalar.legalMoves(lane));
+                // Some lanes sit out each step, as finished or paused rollouts do.
+                if (legal == 0 || random.nextInt(10) == 0) {
+                    moves[lane] = -1;
+                    continue;
+                }
+                int move;
+                do {
+                    move = random.nextInt(Rules.PITS_PER_SIDE);
+                } while ((legal >> move & 1) == 0);
+                moves[lane] = (byte) move;
+                states[lane].makeMove(move, undo);
+            }
+
+            vector.play(moves, LANES);
+            scalar.play(moves, LANES);
+            for (int lane = 0; lane < LANES; lane++) {
+                vector.store(lane, stored);
+                assertEquals(states[lane].toString(), stored.toString(), "vector step " + step + " lane " + lane);
+                scalar.store(lane, stored);
+                assertEquals(states[lane].toString(), stored.toString(), "scalar step " + step + " lane " + lane);
+            }
+        }
+    }
+
+    private static BoardBatch scalarBatch(int capacity) {
+        String previous = System.setProperty("ayo.vector", "false");
+        try {
+            return new BoardBatch(capacity);
+        } finally {
+            if (previous == null) {
+                System.clearProperty("ayo.vector");
+            } else {
+                System.setProperty("ayo.vector", previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package ayo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class CanonicalFormTest {
+    private static final int TABLE_SEEDS = 6;
+
+    // The mirror swaps the rows and the scores and hands the move to the other side: the same game seen from the
+    // other chair, so hashes, table indexes and table values must not tell the two apart.
+    @Test
+    void mirroredPositionsShareHashRankAndProbe() throws IOException {
+        EndgameTablebase table = new TablebaseGenerator(TABLE_SEEDS).generate();
+        Random random = new Random(3);
+        GameState state = new GameState();
+        GameState mirror = new GameState();
+        int[] pits = new int[GameState.PITS];
+        int[] mirrored = new int[GameState.PITS];
+        for (int i = 0; i < 200_000; i++) {
+            int seeds = i % 2 == 0 ? random.nextInt(TABLE_SEEDS + 1) : random.nextInt(Rules.MAX_SEEDS + 1);
+            Arrays.fill(pits, 0);
+            for (int seed = 0; seed < seeds; seed++) {
+                pits[random.nextInt(GameState.PITS)]++;
+            }
+            for (int pit = 0; pit < GameState.PITS; pit++) {
+                mirrored[(pit + GameState.PITS_PER_SIDE) % GameState.PITS] = pits[pit];
+            }
+            int scoreA = random.nextInt(Rules.MAX_SEEDS - seeds + 1);
+            int scoreB = Rules.MAX_SEEDS - seeds - scoreA;
+            int side = random.nextInt(2);
+            state.load(pits, scoreA, scoreB, side);
+            mirror.load(mirrored, scoreB, scoreA, 1 - side);
+
+            assertEquals(Zobrist.hash(state), Zobrist.hash(mirror), state + " vs " + mirror);
+            assertEquals(PitIndexer.rank(state, seeds), PitIndexer.rank(mirror, seeds), state + " vs " + mirror);
+            assertEquals(table.probe(state), table.probe(mirror), state + " vs " + mirror);
+            if (seeds <= TABLE_SEEDS) {
+                assertNotEquals(EndgameTablebase.UNKNOWN, table.probe(mirror), mirror.toString());
+            }
+        }
+    }
+
+    // Handing the move to the other side without mirroring the board is a different position.
+    @Test
+    void sideToMoveStillMatters() {
+        int[] pits = {4, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 1};
+        GameState south = new GameState();
+        GameState north = new GameState();
+        south.load(pits, 20, 23, 0);
+        north.load(pits, 20, 23, 1);
+        assertNotEquals(Zobrist.hash(south), Zobrist.hash(north));
+        assertNotEquals(PitIndexer.rank(south, 5), PitIndexer.rank(north, 5));
+    }
+}
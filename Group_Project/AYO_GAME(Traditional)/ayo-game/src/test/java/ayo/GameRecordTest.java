@@ -0,0 +1,113 @@
+package ayo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class GameRecordTest {
+    // Enough games to fill several writer and reader buffers.
+    private static final int GAMES = 30_000;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void recordsReadBackAndReplay() throws IOException {
+        Path file = dir.resolve("games.bin");
+        List<int[]> written = new ArrayList<>();
+        Random random = new Random(1);
+        GameRecord record = new GameRecord();
+        AyoEngine engine = new AyoEngine();
+        // Written in two sessions to cover appending to an existing file.
+        for (int session = 0; session < 2; session++) {
+            try (GameRecordWriter writer = new GameRecordWriter(file)) {
+                for (int game = 0; game < GAMES / 2; game++) {
+                    written.add(playRandomGame(random, engine, record));
+                    writer.append(record);
+                }
+            }
+        }
+
+        try (GameRecordReader reader = new GameRecordReader(file)) {
+            for (int[] moves : written) {
+                assertTrue(reader.next(record));
+                int[] read = new int[record.getMoveCount()];
+                for (int ply = 0; ply < read.length; ply++) {
+                    read[ply] = record.getMove(ply);
+                }
+                assertEquals(Arrays.toString(moves), Arrays.toString(read));
+
+                record.replay(engine);
+                assertEquals(engine.getScore(0), record.getScore(0));
+                assertEquals(engine.getScore(1), record.getScore(1));
+                assertEquals(engine.getResult(), record.getResult());
+            }
+            assertFalse(reader.next(record));
+        }
+    }
+
+    @Test
+    void oversizedLengthFailsInsteadOfSpinning() throws IOException {
+        Path file = dir.resolve("corrupt.bin");
+        ByteBuffer bytes = ByteBuffer.allocate(GameRecordWriter.HEADER_BYTES + 5)
+                .putInt(GameRecordWriter.MAGIC).putInt(GameRecordWriter.VERSION);
+        // Varint for Integer.MAX_VALUE, far beyond the read buffer.
+        bytes.put(new byte[] {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07});
+        Files.write(file, bytes.array());
+
+        GameRecord record = new GameRecord();
+        try (GameRecordReader reader = new GameRecordReader(file)) {
+            assertTimeoutPreemptively(Duration.ofSeconds(10), () -> assertThrows(IOException.class, () -> reader.next(record)));
+        }
+    }
+
+    @Test
+    void truncatedRecordFails() throws IOException {
+        Path file = dir.resolve("truncated.bin");
+        GameRecord record = new GameRecord();
+        try (GameRecordWriter writer = new GameRecordWriter(file)) {
+            playRandomGame(new Random(2), new AyoEngine(), record);
+            writer.append(record);
+        }
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+
+        try (GameRecordReader reader = new GameRecordReader(file)) {
+            assertThrows(IOException.class, () -> reader.next(record));
+        }
+    }
+
+    private static int[] playRandomGame(Random random, AyoEngine engine, GameRecord record) {
+        engine.reset();
+        record.reset(1, 2, random.nextLong());
+        while (!engine.isGameOver()) {
+            int legal = engine.legalMoves();
+            int move;
+            do {
+                move = random.nextInt(AyoEngine.PITS_PER_SIDE);
+            } while ((legal >> move & 1) == 0);
+            engine.applyMove(move);
+            record.addMove(move);
+        }
+        record.finish(engine);
+        int[] moves = new int[record.getMoveCount()];
+        for (int ply = 0; ply < moves.length; ply++) {
+            moves[ply] = record.getMove(ply);
+        }
+        return moves;
+    }
+}
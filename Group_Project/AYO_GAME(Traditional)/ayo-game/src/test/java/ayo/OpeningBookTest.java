@@ -0,0 +1,66 @@
+package ayo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class OpeningBookTest {
+    private static final int PLIES = 3;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void savedBookLoadsWithTheSameEntries() throws IOException {
+        OpeningBook book = new OpeningBookBuilder(PLIES, SearchLimits.depth(4)).build();
+        Path file = dir.resolve("book.bin");
+        book.save(file);
+        OpeningBook loaded = OpeningBook.load(file);
+
+        assertEquals(book.size(), loaded.size());
+        AyoEngine engine = new AyoEngine();
+        engine.reset();
+        Set<Long> seen = new HashSet<>();
+        compare(book, loaded, engine, PLIES, seen);
+        assertEquals(book.size(), seen.size());
+    }
+
+    @Test
+    void rejectsOtherFiles() throws IOException {
+        Path file = dir.resolve("not-a-book.bin");
+        Files.write(file, new byte[64]);
+        assertThrows(IOException.class, () -> OpeningBook.load(file));
+    }
+
+    // Walks every line the builder walked, collecting the canonical hash of each position met.
+    private static void compare(OpeningBook book, OpeningBook loaded, AyoEngine engine, int pliesLeft, Set<Long> seen) {
+        GameState position = new GameState();
+        engine.copyTo(position);
+        int move = book.lookupMove(position);
+        assertNotEquals(OpeningBook.NO_MOVE, move, position.toString());
+        assertTrue(position.isLegal(move), position.toString());
+        assertEquals(move, loaded.lookupMove(position), position.toString());
+        assertEquals(book.lookupScore(position), loaded.lookupScore(position), position.toString());
+        seen.add(Zobrist.hash(position));
+        if (pliesLeft == 0) return;
+
+        AyoEngine child = new AyoEngine();
+        for (int next = 0; next < AyoEngine.PITS_PER_SIDE; next++) {
+            if (!engine.isLegal(next)) continue;
+            child.copyFrom(engine);
+            child.applyMove(next);
+            if (!child.isGameOver()) {
+                compare(book, loaded, child, pliesLeft - 1, seen);
+            }
+        }
+    }
+}
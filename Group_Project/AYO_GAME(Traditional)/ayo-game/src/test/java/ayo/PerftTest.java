@@ -0,0 +1,56 @@
+package ayo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+class PerftTest {
+    private static final int MAX_DEPTH = Perft.START_COUNTS.length - 1;
+
+    private static AyoEngine start() {
+        AyoEngine root = new AyoEngine();
+        root.reset();
+        return root;
+    }
+
+    @Test
+    void serialPerftMatchesStartCounts() {
+        Perft perft = new Perft(MAX_DEPTH);
+        for (int depth = 0; depth <= MAX_DEPTH; depth++) {
+            assertEquals(Perft.START_COUNTS[depth], perft.perft(start(), depth), "perft(" + depth + ")");
+        }
+    }
+
+    @Test
+    void parallelPerftMatchesStartCounts() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            for (int depth = 0; depth <= MAX_DEPTH; depth++) {
+                assertEquals(Perft.START_COUNTS[depth], Perft.parallelPerft(start(), depth, pool), "parallel perft(" + depth + ")");
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void divideSumsToPerft() {
+        int depth = 6;
+        long total = 0;
+        for (long count : new Perft(depth).divide(start(), depth)) {
+            total += count;
+        }
+        assertEquals(Perft.START_COUNTS[depth], total);
+    }
+
+    @Test
+    void rejectsDepthsOutOfRange() {
+        Perft perft = new Perft(4);
+        assertThrows(IllegalArgumentException.class, () -> perft.perft(start(), -1));
+        assertThrows(IllegalArgumentException.class, () -> perft.perft(start(), 5));
+        assertThrows(IllegalArgumentException.class, () -> perft.divide(start(), 0));
+        assertThrows(IllegalArgumentException.class, () -> Perft.parallelPerft(start(), -1, ForkJoinPool.commonPool()));
+    }
+}
@@ -0,0 +1,96 @@
+package ayo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class RulesTest {
+    // Replays random games through the engine and checks that GameState make/unmake lands on the same positions.
+    @Test
+    void gameStateFollowsEngineThroughRandomGames() {
+        Random random = new Random(1);
+        AyoEngine engine = new AyoEngine(300);
+        GameState state = new GameState();
+        GameState before = new GameState();
+        GameState after = new GameState();
+        MoveUndo undo = new MoveUndo();
+        for (int game = 0; game < 2000; game++) {
+            engine.reset();
+            while (!engine.isGameOver()) {
+                int move;
+                do {
+                    move = random.nextInt(AyoEngine.PITS_PER_SIDE);
+                } while (!engine.isLegal(move));
+
+                engine.copyTo(state);
+                before.copyFrom(state);
+                state.makeMove(move, undo);
+                engine.applyMove(move);
+                engine.copyTo(after);
+                assertEquals(after.toString(), state.toString(), "move " + move + " from " + before);
+
+                state.unmakeMove(undo);
+                assertEquals(before.toString(), state.toString(), "unmake of move " + move);
+            }
+        }
+    }
+
+    // The sowing tables against a seed-by-seed walk round the board.
+    @Test
+    void playMatchesNaiveSowing() {
+        Random random = new Random(5);
+        byte[] pits = new byte[Rules.PITS];
+        byte[] expected = new byte[Rules.PITS];
+        MoveUndo undo = new MoveUndo();
+        for (int i = 0; i < 200_000; i++) {
+            randomPosition(random, pits);
+            int side = random.nextInt(2);
+            int move = random.nextInt(Rules.PITS_PER_SIDE);
+            if (!Rules.isLegal(pits, side, move)) continue;
+
+            System.arraycopy(pits, 0, expected, 0, Rules.PITS);
+            int expectedCapture = naivePlay(expected, side, move);
+            String position = Arrays.toString(pits) + " side " + side + " move " + move;
+
+            assertEquals(expectedCapture, Rules.captureFor(pits, side, move), "captureFor " + position);
+            byte[] played = pits.clone();
+            assertEquals(expectedCapture, Rules.play(played, side, move, undo), "play " + position);
+            assertEquals(Arrays.toString(expected), Arrays.toString(played), position);
+
+            Rules.unplay(played, undo);
+            assertEquals(Arrays.toString(pits), Arrays.toString(played), "unplay " + position);
+        }
+    }
+
+    private static void randomPosition(Random random, byte[] pits) {
+        Arrays.fill(pits, (byte) 0);
+        int total = random.nextInt(Rules.MAX_SEEDS + 1);
+        for (int seed = 0; seed < total; seed++) {
+            pits[random.nextInt(Rules.PITS)]++;
+        }
+    }
+
+    private static int naivePlay(byte[] pits, int side, int move) {
+        int pit = side * Rules.PITS_PER_SIDE + move;
+        int seeds = pits[pit];
+        pits[pit] = 0;
+        int index = pit;
+        while (seeds > 0) {
+            index = (index + 1) % Rules.PITS;
+            pits[index]++;
+            seeds--;
+        }
+        int opponentStart = (1 - side) * Rules.PITS_PER_SIDE;
+        int captured = 0;
+        if (index >= opponentStart && index < opponentStart + Rules.PITS_PER_SIDE) {
+            while (index >= opponentStart && (pits[index] == 1 || pits[index] == 2)) {
+                captured += pits[index];
+                pits[index] = 0;
+                index--;
+            }
+        }
+        return captured;
+    }
+}
@@ -0,0 +1,166 @@
+package ayo;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TablebaseGeneratorTest {
+    private static final int MAX_SEEDS = 6;
+    // Marks a position on the current negamax path, and results that depend on a repetition.
+    private static final int IN_PROGRESS = Integer.MAX_VALUE;
+    private static final int CYCLIC = Integer.MIN_VALUE + 1;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void everyPositionIsSolvedExactly() throws IOException {
+        int[] counts = checkAgainstNegamax(new TablebaseGenerator(MAX_SEEDS).generate());
+        assertEquals(0, counts[1], "unknown positions");
+        assertEquals(EndgameTablebase.entryCount(MAX_SEEDS), counts[0]);
+    }
+
+    // Too few backup rounds leave the longer lines unresolved; nothing that depends on them may be stored as exact.
+    @Test
+    void unresolvedPositionsDoNotLeakIntoExactValues() throws IOException {
+        int[] counts = checkAgainstNegamax(new TablebaseGenerator(MAX_SEEDS).setMaxRounds(2).generate());
+        assertTrue(counts[0] > 0, "exact positions");
+        assertTrue(counts[1] > 0, "unknown positions");
+    }
+
+    // Layers bigger than one task are split across the pool, yet each round reads only the previous one.
+    @Test
+    void parallelBuildMatchesSingleThreadedBuild() throws IOException {
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool parallel = new ForkJoinPool(4);
+        try {
+            byte[] expected = bytes(new TablebaseGenerator(MAX_SEEDS).setPool(single).generate());
+            assertArrayEquals(expected, bytes(new TablebaseGenerator(MAX_SEEDS).setPool(parallel).generate()));
+        } finally {
+            single.shutdown();
+            parallel.shutdown();
+        }
+    }
+
+    @Test
+    void restartResumesFromCheckpoints() throws IOException {
+        byte[] expected = bytes(new TablebaseGenerator(MAX_SEEDS).generate());
+        Path checkpoints = dir.resolve("checkpoints");
+        assertArrayEquals(expected, bytes(new TablebaseGenerator(MAX_SEEDS).setCheckpointDirectory(checkpoints).generate()));
+
+        Files.delete(checkpoints.resolve("layer-" + MAX_SEEDS + ".bin"));
+        assertArrayEquals(expected, bytes(new TablebaseGenerator(MAX_SEEDS).setCheckpointDirectory(checkpoints).generate()));
+    }
+
+    // Layers do not depend on the seed limit, so a larger build picks up a smaller one's checkpoints.
+    @Test
+    void largerBuildReusesSmallerCheckpoints() throws IOException {
+        Path checkpoints = dir.resolve("checkpoints");
+        new TablebaseGenerator(MAX_SEEDS - 1).setCheckpointDirectory(checkpoints).generate();
+        assertArrayEquals(bytes(new TablebaseGenerator(MAX_SEEDS).generate()),
+                bytes(new TablebaseGenerator(MAX_SEEDS).setCheckpointDirectory(checkpoints).generate()));
+    }
+
+    @Test
+    void refusesCheckpointOfAnotherLayer() throws IOException {
+        Path checkpoints = dir.resolve("checkpoints");
+        new TablebaseGenerator(MAX_SEEDS).setCheckpointDirectory(checkpoints).generate();
+        Files.copy(checkpoints.resolve("layer-2.bin"), checkpoints.resolve("layer-3.bin"), StandardCopyOption.REPLACE_EXISTING);
+        assertThrows(IOException.class, () -> new TablebaseGenerator(MAX_SEEDS).setCheckpointDirectory(checkpoints).generate());
+    }
+
+    private byte[] bytes(EndgameTablebase table) throws IOException {
+        Path file = Files.createTempFile(dir, "table", ".bin");
+        table.save(file);
+        return Files.readAllBytes(file);
+    }
+
+    // Checks every side 0 position: an exact value must equal the negamax of the future capture balance over the
+    // whole game tree, and a position with a move into an UNKNOWN position must be UNKNOWN itself. Returns the
+    // number of exact and UNKNOWN positions.
+    private static int[] checkAgainstNegamax(EndgameTablebase table) {
+        Map<String, Integer> solved = new HashMap<>();
+        GameState state = new GameState();
+        GameState child = new GameState();
+        MoveUndo undo = new MoveUndo();
+        int[] pits = new int[GameState.PITS];
+        int[] counts = new int[2];
+        for (int seeds = 0; seeds <= MAX_SEEDS; seeds++) {
+            for (long rank = 0; rank < PitIndexer.layerSize(seeds); rank++) {
+                PitIndexer.unrank(rank, seeds, pits);
+                state.load(pits, 0, 0, 0);
+                int probed = table.probe(state);
+                if (probed == EndgameTablebase.UNKNOWN) {
+                    counts[1]++;
+                    continue;
+                }
+
+                for (int move = 0; move < GameState.PITS_PER_SIDE; move++) {
+                    if (!state.isLegal(move)) continue;
+                    child.copyFrom(state);
+                    child.makeMove(move, undo);
+                    assertNotEquals(EndgameTablebase.UNKNOWN, table.probe(child), "exact " + state + " moves into unknown " + child);
+                }
+                int expected = negamax(state, solved, undo);
+                assertNotEquals(CYCLIC, expected, "exact value for a repeating position " + state);
+                assertEquals(expected, probed, state.toString());
+                counts[0]++;
+            }
+        }
+        return counts;
+    }
+
+    private static int negamax(GameState state, Map<String, Integer> solved, MoveUndo undo) {
+        String key = key(state);
+        Integer known = solved.get(key);
+        if (known != null) {
+            return known == IN_PROGRESS ? CYCLIC : known;
+        }
+        if (state.isTerminal()) {
+            solved.put(key, 0);
+            return 0;
+        }
+        solved.put(key, IN_PROGRESS);
+        int best = Integer.MIN_VALUE;
+        boolean cyclic = false;
+        for (int move = 0; move < GameState.PITS_PER_SIDE; move++) {
+            if (!state.isLegal(move)) continue;
+            state.makeMove(move, undo);
+            int captured = undo.getScoreDelta();
+            MoveUndo childUndo = new MoveUndo();
+            int value = negamax(state, solved, childUndo);
+            state.unmakeMove(undo);
+            if (value == CYCLIC) {
+                cyclic = true;
+            } else {
+                best = Math.max(best, captured - value);
+            }
+        }
+        int result = cyclic ? CYCLIC : best;
+        solved.put(key, result);
+        return result;
+    }
+
+    // The position as seen by the side to move; scores do not affect the future balance.
+    private static String key(GameState state) {
+        int[] pits = new int[GameState.PITS];
+        int offset = state.getSideToMove() * GameState.PITS_PER_SIDE;
+        for (int pit = 0; pit < GameState.PITS; pit++) {
+            pits[pit] = state.getSeedCount((pit + offset) % GameState.PITS);
+        }
+        return Arrays.toString(pits);
+    }
+}
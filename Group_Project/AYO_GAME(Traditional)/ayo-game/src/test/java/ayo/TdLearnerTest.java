@@ -0,0 +1,64 @@
+package ayo;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TdLearnerTest {
+    private static final int GAMES = 12;
+
+    @TempDir
+    Path dir;
+
+    private static TdLearner learner(Evaluation start, int threads) {
+        return new TdLearner(start)
+                .setThreads(threads)
+                .setLimits(SearchLimits.nodes(200))
+                .setMergeEvery(2)
+                .setLearningRate(0.05)
+                .setSeed(42);
+    }
+
+    @Test
+    void mergedWeightsAreCheckpointedAndResume() throws IOException {
+        Path checkpoint = dir.resolve("weights.properties");
+        TdLearner learner = learner(Evaluation.DEFAULT, 2).setCheckpoint(checkpoint, 5);
+        Evaluation learned = learner.run(GAMES);
+
+        assertEquals(GAMES, learner.getGamesPlayed());
+        assertFalse(Arrays.equals(Evaluation.DEFAULT.getWeights(), learned.getWeights()), "weights did not move");
+        assertTrue(Files.exists(checkpoint));
+        assertArrayEquals(learner.getEvaluation().getWeights(), Evaluation.load(checkpoint).getWeights());
+        assertFalse(Files.exists(dir.resolve("weights.properties.tmp")));
+
+        // A resumed run starts from the checkpoint and keeps learning from there.
+        TdLearner resumed = learner(Evaluation.load(checkpoint), 2).setCheckpoint(checkpoint, 5);
+        Evaluation relearned = resumed.run(GAMES);
+        assertFalse(Arrays.equals(learned.getWeights(), relearned.getWeights()), "resumed weights did not move");
+        assertArrayEquals(relearned.getWeights(), Evaluation.load(checkpoint).getWeights());
+    }
+
+    // With one worker the merges happen in game order, so a fixed seed gives the same weights every time.
+    @Test
+    void singleWorkerRunsAreReproducible() throws IOException {
+        Evaluation first = learner(Evaluation.DEFAULT, 1).run(GAMES);
+        Evaluation second = learner(Evaluation.DEFAULT, 1).run(GAMES);
+        assertArrayEquals(first.getWeights(), second.getWeights());
+    }
+
+    @Test
+    void rejectsCheckpointIntervalsBelowOneGame() {
+        TdLearner learner = new TdLearner(Evaluation.DEFAULT);
+        assertThrows(IllegalArgumentException.class, () -> learner.setCheckpoint(dir.resolve("weights.properties"), 0));
+        assertThrows(IllegalArgumentException.class, () -> learner.setCheckpoint(dir.resolve("weights.properties"), -1));
+    }
+}
@@ -0,0 +1,100 @@
+package ayo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.Inflater;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TrainingDataTest {
+    private static final int THREADS = 3;
+    private static final int ROWS_PER_THREAD = 5_000;
+    private static final int CHUNK_ROWS = 1_000;
+
+    @TempDir
+    Path dir;
+
+    // Chunks from different threads interleave in the file, so rows are compared as sorted lists.
+    @Test
+    void rowsFromConcurrentBuffersReadBack() throws Exception {
+        Path file = dir.resolve("positions.bin");
+        List<String> written = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try (TrainingDataWriter writer = new TrainingDataWriter(file, CHUNK_ROWS, 2)) {
+            List<Future<List<String>>> futures = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                Random random = new Random(thread);
+                futures.add(executor.submit(() -> writeRows(writer, random)));
+            }
+            for (Future<List<String>> future : futures) {
+                written.addAll(future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        List<String> read = new ArrayList<>();
+        try (TrainingDataReader reader = new TrainingDataReader(file)) {
+            assertEquals(written.size(), reader.getRowCount());
+            assertTrue(reader.getChunkCount() >= written.size() / CHUNK_ROWS);
+            PositionChunk chunk = reader.newChunk();
+            Inflater inflater = new Inflater();
+            GameState state = new GameState();
+            int[] scratch = new int[Rules.PITS];
+            for (int i = 0; i < reader.getChunkCount(); i++) {
+                reader.read(i, chunk, inflater);
+                for (int row = 0; row < chunk.size(); row++) {
+                    chunk.load(row, state, scratch);
+                    read.add(row(state, chunk.getOutcome(row), chunk.getSearchScore(row)));
+                }
+            }
+            inflater.end();
+        }
+
+        Collections.sort(written);
+        Collections.sort(read);
+        assertEquals(written, read);
+    }
+
+    @Test
+    void rejectsOtherFiles() throws IOException {
+        Path file = dir.resolve("not-training-data.bin");
+        Files.write(file, new byte[64]);
+        assertThrows(IOException.class, () -> new TrainingDataReader(file).close());
+    }
+
+    private static List<String> writeRows(TrainingDataWriter writer, Random random) throws IOException {
+        List<String> rows = new ArrayList<>();
+        GameState state = new GameState();
+        int[] pits = new int[Rules.PITS];
+        try (TrainingDataWriter.Buffer buffer = writer.newBuffer()) {
+            for (int i = 0; i < ROWS_PER_THREAD; i++) {
+                for (int pit = 0; pit < pits.length; pit++) {
+                    pits[pit] = random.nextInt(9);
+                }
+                state.load(pits, random.nextInt(20), random.nextInt(20), random.nextInt(2));
+                int outcome = random.nextInt(3) - 1;
+                int score = random.nextInt(2001) - 1000;
+                buffer.add(state, outcome, score);
+                rows.add(row(state, outcome, score));
+            }
+        }
+        return rows;
+    }
+
+    private static String row(GameState state, int outcome, int score) {
+        return state + " outcome=" + outcome + " score=" + score;
+    }
+}